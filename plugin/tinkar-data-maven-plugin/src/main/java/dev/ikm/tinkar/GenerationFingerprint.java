@@ -0,0 +1,148 @@
+package dev.ikm.tinkar;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Fingerprint of everything that determines the generated export: the plugin jar, every jar on the plugin's runtime
+ * classpath, which includes the tinkar jars that compose, transform and export the data and the store providers, and
+ * the goal parameters. It is stored next to the export file, together with the hashes of the
+ * export and precompiled entities files, so an unchanged build can skip generation.
+ */
+public class GenerationFingerprint {
+
+    /**
+     * Bump when the generated output changes in a way the jar hashes do not capture.
+     */
+    private static final String GENERATOR_VERSION = "1";
+
+    private static final String EXPORT_HASH = "export.sha256";
+    private static final String ENTITIES_HASH = "entities.sha256";
+
+    private final Properties inputs = new Properties();
+    private String uncacheableReason;
+
+    /**
+     * @param classpath the plugin's resolved runtime classpath, keyed by {@code groupId:artifactId}
+     */
+    public GenerationFingerprint(Map<String, String> parameters, Map<String, File> classpath) throws IOException {
+        inputs.setProperty("generator.version", GENERATOR_VERSION);
+        addCodeSource("plugin", TinkarStarterDataMojo.class);
+        for (Map.Entry<String, File> entry : classpath.entrySet()) {
+            addJar(entry.getKey(), entry.getValue());
+        }
+        parameters.forEach((name, value) -> inputs.setProperty("parameter." + name, String.valueOf(value)));
+    }
+
+    private void addJar(String key, File location) throws IOException {
+        if (location == null || !location.isFile()) {
+            uncacheableReason = key + " is not resolved to a jar";
+            return;
+        }
+        inputs.setProperty("jar." + key, location.getName() + ":" + sha256(location));
+    }
+
+    private void addCodeSource(String key, Class<?> aClass) throws IOException {
+        CodeSource codeSource = aClass.getProtectionDomain().getCodeSource();
+        if (codeSource == null) {
+            uncacheableReason = "no code source for " + aClass.getName();
+            return;
+        }
+        File location;
+        try {
+            location = new File(codeSource.getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+        if (!location.isFile()) {
+            uncacheableReason = aClass.getName() + " is not loaded from a jar";
+            return;
+        }
+        addJar(key, location);
+    }
+
+    /**
+     * Returns why the export must be regenerated, or empty when the export, precompiled entities and fingerprint
+     * files match the current inputs.
+     *
+     * @param entitiesFile the precompiled entities file, or null when none is generated
+     */
+    public Optional<String> staleReason(File exportFile, File entitiesFile, File fingerprintFile) throws IOException {
+        if (uncacheableReason != null) {
+            return Optional.of(uncacheableReason);
+        }
+        if (!exportFile.isFile()) {
+            return Optional.of(exportFile + " does not exist");
+        }
+        if (entitiesFile != null && !entitiesFile.isFile()) {
+            return Optional.of(entitiesFile + " does not exist");
+        }
+        if (!fingerprintFile.isFile()) {
+            return Optional.of(fingerprintFile + " does not exist");
+        }
+        Properties previous = new Properties();
+        try (InputStream in = new FileInputStream(fingerprintFile)) {
+            previous.load(in);
+        }
+        if (!sha256(exportFile).equals(previous.remove(EXPORT_HASH))) {
+            return Optional.of(exportFile + " was modified after it was generated");
+        }
+        Object entitiesHash = previous.remove(ENTITIES_HASH);
+        if (entitiesFile != null && !sha256(entitiesFile).equals(entitiesHash)) {
+            return Optional.of(entitiesFile + " was modified after it was generated");
+        }
+        for (String name : inputs.stringPropertyNames()) {
+            if (!inputs.getProperty(name).equals(previous.getProperty(name))) {
+                return Optional.of(name + " changed");
+            }
+        }
+        if (!previous.keySet().equals(inputs.keySet())) {
+            return Optional.of("the set of inputs changed");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param entitiesFile the precompiled entities file, or null when none is generated
+     */
+    public void write(File exportFile, File entitiesFile, File fingerprintFile) throws IOException {
+        Properties properties = new Properties();
+        properties.putAll(inputs);
+        properties.setProperty(EXPORT_HASH, sha256(exportFile));
+        if (entitiesFile != null) {
+            properties.setProperty(ENTITIES_HASH, sha256(entitiesFile));
+        }
+        try (OutputStream out = new FileOutputStream(fingerprintFile)) {
+            properties.store(out, "tinkar-data-maven-plugin generate-data fingerprint");
+        }
+    }
+
+    private static String sha256(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
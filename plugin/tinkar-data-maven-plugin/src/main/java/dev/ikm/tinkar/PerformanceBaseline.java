@@ -0,0 +1,43 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.data.compose.JsonWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads and writes performance results as a flat JSON object of named numbers, e.g.
+ * {@code {"importEntitiesPerSecond": 123456.0, "peakHeapBytes": 268435456}}.
+ */
+public class PerformanceBaseline {
+
+    private static final Pattern ENTRY = Pattern.compile("\"([^\"]+)\"\\s*:\\s*(-?[0-9][0-9.eE+-]*)");
+
+    private PerformanceBaseline() {
+    }
+
+    public static Map<String, Double> read(File file) throws IOException {
+        Map<String, Double> values = new LinkedHashMap<>();
+        Matcher matcher = ENTRY.matcher(Files.readString(file.toPath(), StandardCharsets.UTF_8));
+        while (matcher.find()) {
+            values.put(matcher.group(1), Double.parseDouble(matcher.group(2)));
+        }
+        return values;
+    }
+
+    public static void write(File file, Map<String, Double> values) throws IOException {
+        try (JsonWriter json = JsonWriter.create(file)) {
+            json.beginObject();
+            for (Map.Entry<String, Double> entry : values.entrySet()) {
+                json.property(entry.getKey(), entry.getValue());
+            }
+            json.endObject();
+        }
+    }
+}
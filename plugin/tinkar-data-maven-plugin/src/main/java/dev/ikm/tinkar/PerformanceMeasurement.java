@@ -0,0 +1,160 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.common.service.CachingService;
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.common.service.ServiceKeys;
+import dev.ikm.tinkar.common.service.ServiceProperties;
+import dev.ikm.tinkar.common.util.io.FileUtil;
+import dev.ikm.tinkar.data.compose.GenerationReport;
+import dev.ikm.tinkar.entity.load.LoadEntitiesFromProtobufFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.File;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates the starter data, exports it and imports the export into an empty SpinedArrayStore, measuring the
+ * throughput of each step and the peak heap of the whole round trip. Each metric is the best of the iterations: the
+ * highest throughput and the lowest peak heap.
+ * <p>
+ * The peak heap is the largest heap occupancy seen right before a garbage collection, summed over the heap pools of
+ * that one collection, as reported by GC notifications. Summing the peaks of the individual pools instead would add
+ * up peaks reached at different times.
+ */
+public class PerformanceMeasurement {
+
+    public static final String GENERATE_ENTITIES_PER_SECOND = "generateEntitiesPerSecond";
+    public static final String EXPORT_ENTITIES_PER_SECOND = "exportEntitiesPerSecond";
+    public static final String IMPORT_ENTITIES_PER_SECOND = "importEntitiesPerSecond";
+    public static final String PEAK_HEAP_BYTES = "peakHeapBytes";
+
+    private static final Logger LOG = LoggerFactory.getLogger(PerformanceMeasurement.class.getSimpleName());
+
+    private final File workDirectory;
+
+    public PerformanceMeasurement(File workDirectory) {
+        this.workDirectory = workDirectory;
+    }
+
+    public Map<String, Double> measure(int iterations) throws Exception {
+        Map<String, Double> best = new LinkedHashMap<>();
+        for (int i = 1; i <= iterations; i++) {
+            Map<String, Double> result = measureOnce();
+            LOG.info("Iteration {}: {}", i, result);
+            result.forEach((name, value) -> best.merge(name, value, PEAK_HEAP_BYTES.equals(name) ? Math::min : Math::max));
+        }
+        return best;
+    }
+
+    private Map<String, Double> measureOnce() throws Exception {
+        FileUtil.recursiveDelete(workDirectory);
+        workDirectory.mkdirs();
+        File exportFile = new File(workDirectory, "tinkar-export-starter-data-pb.zip");
+        System.gc();
+
+        Map<String, Double> result = new LinkedHashMap<>();
+        try (HeapPeak heapPeak = new HeapPeak()) {
+            TinkarStarterData starterData = new TinkarStarterData(new String[]{
+                    new File(workDirectory, "generate-store").getPath(), exportFile.getPath()});
+            starterData.setReportFile(new File(workDirectory, "generation-report.json"));
+            starterData.execute();
+            GenerationReport report = starterData.getReport();
+
+            result.put(GENERATE_ENTITIES_PER_SECOND, report.entitiesPerSecond("transform"));
+            result.put(EXPORT_ENTITIES_PER_SECOND, report.entitiesPerSecond("export"));
+            result.put(IMPORT_ENTITIES_PER_SECOND, importEntitiesPerSecond(exportFile));
+            result.put(PEAK_HEAP_BYTES, (double) heapPeak.peakBytes());
+        }
+        return result;
+    }
+
+    private double importEntitiesPerSecond(File exportFile) throws Exception {
+        CachingService.clearAll();
+        ServiceProperties.set(ServiceKeys.DATA_STORE_ROOT, new File(workDirectory, "import-store"));
+        PrimitiveData.selectControllerByName("Open SpinedArrayStore");
+        PrimitiveData.start();
+        try {
+            long start = System.nanoTime();
+            new LoadEntitiesFromProtobufFile(exportFile).call();
+            long nanos = System.nanoTime() - start;
+            return GenerationReport.storeEntityCount() * 1_000_000_000d / nanos;
+        } finally {
+            PrimitiveData.stop();
+        }
+    }
+
+    /**
+     * Tracks the heap occupancy before each garbage collection while it is open.
+     */
+    private static final class HeapPeak implements NotificationListener, AutoCloseable {
+
+        private final Set<String> heapPools = new HashSet<>();
+        private final AtomicLong peak = new AtomicLong();
+
+        HeapPeak() {
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    heapPools.add(pool.getName());
+                }
+            }
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (collector instanceof NotificationEmitter emitter) {
+                    emitter.addNotificationListener(this, null, null);
+                }
+            }
+        }
+
+        @Override
+        public void handleNotification(Notification notification, Object handback) {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            long used = 0;
+            for (Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageBeforeGc().entrySet()) {
+                if (heapPools.contains(pool.getKey())) {
+                    used += pool.getValue().getUsed();
+                }
+            }
+            peak.accumulateAndGet(used, Math::max);
+        }
+
+        /**
+         * The peak before any collection, or the current occupancy when no collection exceeded it.
+         */
+        long peakBytes() {
+            return Math.max(peak.get(), ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+        }
+
+        @Override
+        public void close() {
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (collector instanceof NotificationEmitter emitter) {
+                    try {
+                        emitter.removeNotificationListener(this);
+                    } catch (ListenerNotFoundException e) {
+                        // Nothing to remove from this collector.
+                    }
+                }
+            }
+        }
+    }
+}
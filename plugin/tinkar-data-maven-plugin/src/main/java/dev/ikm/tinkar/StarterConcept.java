@@ -0,0 +1,178 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.composer.Session;
+import dev.ikm.tinkar.composer.assembler.ConceptAssembler;
+import dev.ikm.tinkar.composer.template.Definition;
+import dev.ikm.tinkar.composer.template.FullyQualifiedName;
+import dev.ikm.tinkar.composer.template.Identifier;
+import dev.ikm.tinkar.composer.template.StatedAxiom;
+import dev.ikm.tinkar.composer.template.StatedNavigation;
+import dev.ikm.tinkar.composer.template.Synonym;
+import dev.ikm.tinkar.composer.template.TinkarBaseModel;
+import dev.ikm.tinkar.composer.template.USDialect;
+import dev.ikm.tinkar.terms.EntityProxy;
+
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_NOT_CASE_SENSITIVE;
+import static dev.ikm.tinkar.terms.TinkarTerm.ENGLISH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.PREFERRED;
+import static dev.ikm.tinkar.terms.TinkarTerm.UNIVERSALLY_UNIQUE_IDENTIFIER;
+
+/**
+ * One entry of the starter data manifest: a concept together with its descriptions, stated parents and children.
+ * {@link #compose(Session)} issues the same Composer calls for every entry, so all starter concepts share one
+ * set of assembler and template lambdas.
+ */
+public class StarterConcept {
+
+    private static final EntityProxy.Concept[] NONE = new EntityProxy.Concept[0];
+
+    private final EntityProxy.Concept concept;
+    private final String fullyQualifiedName;
+    private final String synonym;
+    private final String definition;
+
+    private EntityProxy.Concept identifier;
+    private EntityProxy.Concept[] parents = NONE;
+    private EntityProxy.Concept[] children = NONE;
+    private EntityProxy.Concept[] axiomParents = NONE;
+    private boolean tinkarBaseModel = true;
+    private boolean fullyQualifiedNameDialectOnConcept;
+    private boolean synonymDialectOnConcept;
+    private boolean definitionDialectOnConcept;
+
+    private StarterConcept(EntityProxy.Concept concept, String fullyQualifiedName, String synonym, String definition) {
+        this.concept = concept;
+        this.fullyQualifiedName = fullyQualifiedName;
+        this.synonym = synonym;
+        this.definition = definition;
+        this.identifier = concept;
+    }
+
+    public static StarterConcept concept(EntityProxy.Concept concept, String fullyQualifiedName, String synonym, String definition) {
+        return new StarterConcept(concept, fullyQualifiedName, synonym, definition);
+    }
+
+    /**
+     * Sets the stated navigation parents, which are also used for the stated axiom unless {@link #isA} overrides it.
+     */
+    public StarterConcept parents(EntityProxy.Concept... parents) {
+        this.parents = parents;
+        this.axiomParents = parents;
+        return this;
+    }
+
+    public StarterConcept children(EntityProxy.Concept... children) {
+        this.children = children;
+        return this;
+    }
+
+    public StarterConcept isA(EntityProxy.Concept... axiomParents) {
+        this.axiomParents = axiomParents;
+        return this;
+    }
+
+    /**
+     * Uses the first UUID of another concept for the identifier semantic.
+     */
+    public StarterConcept identifierFrom(EntityProxy.Concept identifier) {
+        this.identifier = identifier;
+        return this;
+    }
+
+    public StarterConcept withoutBaseModel() {
+        this.tinkarBaseModel = false;
+        return this;
+    }
+
+    /**
+     * Attaches the synonym's US dialect semantic to the concept instead of the synonym.
+     */
+    public StarterConcept synonymDialectOnConcept() {
+        this.synonymDialectOnConcept = true;
+        return this;
+    }
+
+    /**
+     * Attaches the US dialect semantics of all descriptions to the concept instead of the descriptions.
+     */
+    public StarterConcept dialectsOnConcept() {
+        this.fullyQualifiedNameDialectOnConcept = true;
+        this.synonymDialectOnConcept = true;
+        this.definitionDialectOnConcept = true;
+        return this;
+    }
+
+    public EntityProxy.Concept concept() {
+        return concept;
+    }
+
+    /**
+     * The first stated parent, or the concept itself when it has none.
+     */
+    public EntityProxy.Concept primaryParent() {
+        return parents.length > 0 ? parents[0] : concept;
+    }
+
+    public void compose(Session session) {
+        var attachable = session.compose((ConceptAssembler conceptAssembler) -> conceptAssembler.concept(concept));
+
+        attachable.attach((FullyQualifiedName fqn) -> {
+            fqn.text(fullyQualifiedName)
+                    .language(ENGLISH_LANGUAGE)
+                    .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE);
+            if (!fullyQualifiedNameDialectOnConcept) {
+                fqn.attach(usDialect());
+            }
+        });
+        if (fullyQualifiedNameDialectOnConcept) {
+            attachable.attach(usDialect());
+        }
+
+        attachable.attach((Synonym synonym) -> {
+            synonym.text(this.synonym)
+                    .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                    .language(ENGLISH_LANGUAGE);
+            if (!synonymDialectOnConcept) {
+                synonym.attach(usDialect());
+            }
+        });
+        if (synonymDialectOnConcept) {
+            attachable.attach(usDialect());
+        }
+
+        attachable.attach((Definition definition) -> {
+            definition.text(this.definition)
+                    .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                    .language(ENGLISH_LANGUAGE);
+            if (!definitionDialectOnConcept) {
+                definition.attach(usDialect());
+            }
+        });
+        if (definitionDialectOnConcept) {
+            attachable.attach(usDialect());
+        }
+
+        attachable.attach((Identifier identifier) -> identifier
+                .source(UNIVERSALLY_UNIQUE_IDENTIFIER)
+                .identifier(this.identifier.asUuidArray()[0].toString()));
+
+        StatedNavigation statedNavigation = new StatedNavigation();
+        if (children.length > 0) {
+            statedNavigation = statedNavigation.children(children);
+        }
+        if (parents.length > 0) {
+            statedNavigation = statedNavigation.parents(parents);
+        }
+        attachable.attach(statedNavigation);
+        attachable.attach(new StatedAxiom()
+                .isA(axiomParents));
+
+        if (tinkarBaseModel) {
+            attachable.attach(new TinkarBaseModel());
+        }
+    }
+
+    private static USDialect usDialect() {
+        return new USDialect().acceptability(PREFERRED);
+    }
+}
@@ -0,0 +1,337 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.terms.TinkarTerm;
+
+import java.util.List;
+
+import static dev.ikm.tinkar.StarterConcept.concept;
+import static dev.ikm.tinkar.terms.TinkarTerm.*;
+
+/**
+ * Manifest of the concepts created by {@link TinkarStarterData}, in composition order. Adding a starter concept is
+ * a matter of adding one entry here.
+ */
+public class TinkarStarterConcepts {
+
+    public static final List<StarterConcept> CONCEPTS = List.of(
+            concept(ENGLISH_DIALECT_ASSEMBLAGE, "English Dialect", "English dialect", "Specifies the dialect of the English language").parents(DIALECT_ASSEMBLAGE).children(GB_ENGLISH_DIALECT, US_ENGLISH_DIALECT),
+            concept(TEXT_COMPARISON_MEASURE_SEMANTIC, "Text comparison measure semantic (SOLOR)", "Text comparison", "Text comparison with a focus on semantic meaning involves evaluating the similarity or relatedness between pieces of text based on their underlying meaning rather than just their surface structure.").parents(MEANING).children(CASE_INSENSITIVE_EVALUATION, CASE_SENSITIVE_EVALUATION),
+            concept(STARTER_DATA_AUTHORING, STARTER_DATA_AUTHORING.description(), "Metadata Authoring", "Define necessary minimum viable concepts to use Tinkar Data").parents(USER),
+            concept(AXIOM_SYNTAX, AXIOM_SYNTAX.description(), "Axiom Syntax", "Syntax defining description logic").parents(TINKAR_MODEL_CONCEPT),
+            concept(EXPRESS_AXIOM_SYNTAX, EXPRESS_AXIOM_SYNTAX.description(), "Express Axiom", "Expressing description logic through syntax").parents(AXIOM_SYNTAX),
+            concept(ACCEPTABLE, "Acceptable (foundation metadata concept)", "Acceptable", "Specifies that a description is acceptable, but not preferred within a language or dialect.").parents(DESCRIPTION_ACCEPTABILITY),
+            concept(ACTIVE_STATE, "Active state", "Active", "Concept used to represent a status for components that are active.").parents(STATUS_VALUE),
+            concept(ALLOWED_STATES_FOR_STAMP_COORDINATE, "Allowed states for stamp coordinate (SOLOR)", "Allowed states", "Predefined list of values for STAMP coordinate").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(AND, "And (SOLOR)", "And", "An operator that typically is employed to combine two conditions").parents(CONNECTIVE_OPERATOR),
+            concept(ANNOTATION_TYPE, "Annotation type (SOLOR)", "Annotation type", "Metadata about program elements, and annotation types define the structure of these annotations").parents(ROOT_VERTEX).children(COMMENT, KOMET_ISSUE),
+            concept(ANONYMOUS_CONCEPT, "Anonymous concept (SOLOR)", "Anonymous concept", "Concepts or entities that do not have a specific, named identity, (defined on-the-fly without a dedicated name)").parents(CONCEPT_TYPE),
+            concept(ANY_COMPONENT, "Any component (SOLOR)", "Any component", "A general-purpose container to represent any component with generic data structure. Modifiable based on the specific requirements and characteristics of the components.").parents(OBJECT),
+            concept(ARRAY, "Array (SOLOR)", "Array", "Linear data structure").parents(DYNAMIC_COLUMN_DATA_TYPES),
+            concept(ARRAY_FIELD, "Array field (Solor)", "Array field", "A lexical set of semantically related elements/items").parents(DISPLAY_FIELDS),
+            concept(AUTHOR_FOR_EDIT_COORDINATE, "Author for edit coordinate (SOLOR)", "Author", "Individual or entity who made a particular edit or revision in a document (authoring a specific location or point in the codebase where an edit was made)").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(AUTHOR_FOR_VERSION, "Author for version (SOLOR)", "Author", "Individual or entity who made a specific set of changes or modifications to a codebase/terminology resulting in the creation of a new version or revision").parents(VERSION_PROPERTIES),
+            concept(AUTHORS_FOR_STAMP_COORDINATE, "Author for stamp coordinate (SOLOR)", "Authors", "In individual or an entity responsible for defining or updating the values associated with the STAMP coordinate").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(AXIOM_FOCUS, "Axiom focus (SOLOR)", "Axiom focus", "A statement or proposition that is assumed to be true without requiring proof, it serves as a foundation principles on which a system or theory is built. Focus refers to the central point of attention or concentration on a specific concept/axioms").parents(COMPONENT_TYPE_FOCUS),
+            concept(AXIOM_ORIGIN, "Axiom origin (SOLOR)", "Axiom origin", "The parent concept for the axiom?").parents(TINKAR_MODEL_CONCEPT).children(STATED_PREMISE_TYPE, INFERRED_PREMISE_TYPE),
+            concept(BOOLEAN_FIELD, "Boolean field (SOLOR)", "Boolean field", "True (1) or false (0)").parents(DISPLAY_FIELDS),
+            concept(BOOLEAN_LITERAL, "Boolean literal (SOLOR)", "Boolean literal", "TRUE, FALSE, UNKNOWN").parents(LITERAL_VALUE),
+            concept(BOOLEAN_REFERENCE, "Boolean reference (SOLOR)", "Boolean reference", "Reference(a pointer) to a Boolean object").parents(QUERY_CLAUSES),
+            concept(BOOLEAN_SUBSTITUTION, "Boolean substitution (SOLOR)", "Boolean substitution", "The process of replacing or substituting boolean values or expression in a logical context").parents(FIELD_SUBSTITUTION),
+            concept(BYTE_ARRAY_FIELD, "Byte array field (SOLOR)", "Byte array field", "An array of bytes").parents(DISPLAY_FIELDS),
+            concept(CANCELED_STATE, "Canceled state", "Canceled", "Concept used to represent a status for components that are canceled").parents(STATUS_VALUE),
+            concept(CASE_INSENSITIVE_EVALUATION, "Case insensitive evaluation (SOLOR)", "Ignore case", "Evaluates values regardless of the case").parents(TEXT_COMPARISON_MEASURE_SEMANTIC),
+            concept(CASE_SENSITIVE_EVALUATION, "Case sensitive evaluation (SOLOR)", "Compare case", "Evaluated based on the case").parents(TEXT_COMPARISON_MEASURE_SEMANTIC),
+            concept(CASE_SIGNIFICANCE_CONCEPT_NID_FOR_DESCRIPTION, "Case significance concept nid for description (SOLOR)", "Case significance", "A field label which captures the case significance for a given concept description").parents(DESCRIPTION_VERSION_PROPERTIES),
+            concept(CHINESE_LANGUAGE, "Chinese language (SOLOR)", "Chinese language", "Chinese language").parents(LANGUAGE),
+            concept(CHRONICLE_PROPERTIES, "Chronicle properties (SOLOR)", "Chronicle properties", "Attributes or characteristic associated with a historical record or an account of events (metadata, timestamps)").parents(OBJECT_PROPERTIES).children(PRIMORDIAL_UUID_FOR_CHRONICLE, VERSION_LIST_FOR_CHRONICLE, SEMANTIC_LIST_FOR_CHRONICLE, UUID_LIST_FOR_COMPONENT),
+            concept(COMMENT, "Comment (SOLOR)", "Comment", "A filed label to capture free text information which may be necessary to add or change (concepts, relationships, semantics, etc)").parents(ANNOTATION_TYPE),
+            concept(COMPONENT_ID_LIST_FIELD, "Component Id list", "Component Id list", "A display field that references an ordered list of Concept IDs.").parents(DISPLAY_FIELDS),
+            concept(COMPONENT_ID_SET_FIELD, "Component Id set field", "Component Id set", "A display field that references an unordered list of Concept IDs.").parents(DISPLAY_FIELDS),
+            concept(COMPONENT_FIELD, "Component field", "Component field", "A display field type that references a concept ID.").parents(DISPLAY_FIELDS),
+            concept(COMPONENT_FOR_SEMANTIC, "Component for semantic (SOLOR)", "Component", "Component for semantic").parents(SEMANTIC_PROPERTIES),
+            concept(COMPONENT_SEMANTIC, "Component semantic (SOLOR)", "Component Semantic", "Component semantic").parents(SEMANTIC_TYPE),
+            concept(COMPONENT_TYPE_FOCUS, "Component type focus (SOLOR)", "Component type focus", "Focus type of component").parents(TINKAR_MODEL_CONCEPT).children(AXIOM_FOCUS, CONCEPT_FOCUS, DESCRIPTION_FOCUS),
+            concept(CONCEPT_CONSTRAINTS, "Concept constraints(SOLOR)", "Concept constraints", "Defined filters for a given concept").parents(ACTION_PROPERTIES),
+            concept(CONCEPT_DETAILS_TREE_TABLE, "Concept details tree table (SOLOR)", "Concept details tree table", "Tree table with concept details").parents(TINKAR_MODEL_CONCEPT),
+            concept(CONCEPT_FIELD, "Concept field (SOLOR)", "Concept field", "Field for the human readable description for the given concept").parents(DISPLAY_FIELDS),
+            concept(CONCEPT_FOCUS, "Concept focus (SOLOR)", "Concept focus", "Null").parents(COMPONENT_TYPE_FOCUS),
+            concept(CONCEPT_REFERENCE, "Concept reference (SOLOR)", "Concept reference", "A field to capture a reference to validate concept").parents(CONNECTIVE_OPERATOR),
+            concept(CONCEPT_SEMANTIC, "Concept semantic (SOLOR)", "Concept semantic", "Value to define a given semantic as a concept").parents(SEMANTIC_TYPE),
+            concept(CONCEPT_SUBSTITUTION, "Concept substitution (SOLOR)", "Concept substitution", "Substitution for concept").parents(FIELD_SUBSTITUTION),
+            concept(CONCEPT_TO_FIND, "Concept to find (SOLOR)", "Concept to find", "Find concept (if searching on Komet shows us the results 'details and further information?)").parents(ACTION_PROPERTIES),
+            concept(CONCEPT_TYPE, "Concept type (SOLOR)", "Concept type", "A field that captures a defined concept label").parents(TINKAR_MODEL_CONCEPT).children(ANONYMOUS_CONCEPT, PATH_CONCEPT, SEMANTIC_FIELD_CONCEPTS),
+            concept(CONCEPT_VERSION, "Concept version (SOLOR)", "Version", "A filed that captures the version of the terminology that it came from").parents(TINKAR_MODEL_CONCEPT),
+            concept(CONCRETE_DOMAIN_OPERATOR, "Concrete value operator (SOLOR)", "Concrete value operator", "A concept that specifies value operators").parents(TINKAR_MODEL_CONCEPT).children(EQUAL_TO, GREATER_THAN, GREATER_THAN_OR_EQUAL_TO, LESS_THAN, LESS_THAN_OR_EQUAL_TO, MAXIMUM_VALUE_OPERATOR, MINIMUM_VALUE_OPERATOR),
+            concept(CONDITIONAL_TRIGGERS, "Conditional triggers (SOLOR)", "Conditional triggers", "Conditional triggers based on actions, reasoner").parents(ACTION_PROPERTIES),
+            concept(CONNECTIVE_OPERATOR, "Connective operator (SOLOR)", "Connective operator", "A field that captures what the operator is (logical connective)").parents(MEANING).children(AND, DEFINITION_ROOT, DISJOINT_WITH, OR, IS_A, PART_OF, CONCEPT_REFERENCE),
+            concept(CORELATION_EXPRESSION, "Correlation expression (SOLOR)", "Correlation expression", "A value for Correlation properties").parents(CORRELATION_PROPERTIES),
+            concept(CORELATION_REFERENCE_EXPRESSION, "Correlation reference expression (SOLOR)", "Correlation reference expression", "A value for correlation").parents(CORRELATION_PROPERTIES),
+            concept(CORRELATION_PROPERTIES, "Correlation properties (SOLOR)", "Correlation properties", "Characteristics or measures that describe the relationship between two or more variables").parents(OBJECT_PROPERTIES).children(CORELATION_EXPRESSION, CORELATION_REFERENCE_EXPRESSION),
+            concept(CREATIVE_COMMONS_BY_LICENSE, "Creative Commons BY license (SOLOR)", "Creative Commons BY license", "Creative Commons (CC) licenses are a set of public copyright licenses that enable the free distribution of an otherwise copyrighted work").parents(ROOT_VERTEX),
+            concept(CZECH_DIALECT, "Czech dialect (SOLOR)", "Czech dialect", "Czech dialect").parents(DIALECT_ASSEMBLAGE),
+            concept(CZECH_LANGUAGE, "Czech language (SOLOR)", "Czech language", "Czech Language").parents(LANGUAGE),
+            concept(DANISH_LANGUAGE, "Danish language (SOLOR)", "Danish language", "Danish Language").parents(LANGUAGE),
+            concept(DEFAULT_MODULE_FOR_EDIT_COORDINATE, "Default module for edit coordinate (SOLOR)", "Default module", "A value for coordinate").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(DEFINITION_DESCRIPTION_TYPE, "Definition description type", "Definition", "Semantic value describing the description type for the description pattern is a definition").parents(DESCRIPTION_TYPE),
+            concept(DEFINITION_ROOT, "Definition root (SOLOR)", "Definition root", "Null").parents(CONNECTIVE_OPERATOR),
+            concept(DESCRIPTION, "Description", "Description", "Human readable text for a concept").parents(TINKAR_MODEL_CONCEPT),
+            concept(DESCRIPTION_ACCEPTABILITY, "Description acceptability", "Description acceptability", "Whether a given human readable text for a concept is permissible").parents(TINKAR_MODEL_CONCEPT).children(ACCEPTABLE, PREFERRED),
+            concept(DESCRIPTION_CASE_SENSITIVE, "Description case sensitive", "Case sensitive", "Assumes the description is dependent on capitalization").parents(DESCRIPTION_CASE_SIGNIFICANCE),
+            concept(DESCRIPTION_CASE_SIGNIFICANCE, "Description case significance", "Description case significance", "Specifies how to handle the description text in terms of case sensitivity").parents(TINKAR_MODEL_CONCEPT).children(DESCRIPTION_CASE_SENSITIVE, DESCRIPTION_NOT_CASE_SENSITIVE),
+            concept(DESCRIPTION_CORE_TYPE, "Description core type (SOLOR)", "Description core type", "Used to mark non-snomed descriptions as one of the core snomed types").parents(DESCRIPTION_TYPE),
+            concept(DESCRIPTION_DIALECT_PAIR, "Description dialect pair (SOLOR)", "Description dialect pair", "Description dialect pair - linking together dialects with language descriptions").parents(DESCRIPTION_VERSION_PROPERTIES).children(DESCRIPTION_FOR_DIALECT_AND_OR_DESCRIPTION_PAIR, DIALECT_FOR_DIALECT_AND_OR_DESCRIPTION_PAIR),
+            concept(DESCRIPTION_FOCUS, "Description focus (SOLOR)", "Description focus", "Description focus").parents(COMPONENT_TYPE_FOCUS),
+            concept(DESCRIPTION_FOR_DIALECT_AND_OR_DESCRIPTION_PAIR, "Description for dialect/description pair (SOLOR)", "Description for dialect/description pair", "Linking together dialects with language descriptions").parents(DESCRIPTION_DIALECT_PAIR),
+            concept(DESCRIPTION_INITIAL_CHARACTER_CASE_SENSITIVE, "Description initial character case sensitive (SOLOR)", "Initial character case insensitive", "Value which designates initial character as sensitive for a given description").parents(DESCRIPTION_CASE_SIGNIFICANCE),
+            concept(DESCRIPTION_LOGIC_PROFILE_FOR_LOGIC_COORDINATE, "Description logic profile for logic coordinate (SOLOR)", "Logic profile", "Null").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(DESCRIPTION_NOT_CASE_SENSITIVE, "Description not case sensitive", "Case insensitive", "Value which designate character as not sensitive for a given description").parents(DESCRIPTION_CASE_SIGNIFICANCE),
+            concept(DESCRIPTION_SEMANTIC, "Description semantic", "Description semantic", "Purpose and meaning for the description pattern and dialect patterns").parents(TINKAR_MODEL_CONCEPT),
+            concept(DESCRIPTION_TYPE, "Description type", "Description type", "Specifying what type of description it is i.e. is it fully qualified or regular and etc.").parents(TINKAR_MODEL_CONCEPT).children(DEFINITION_DESCRIPTION_TYPE, FULLY_QUALIFIED_NAME_DESCRIPTION_TYPE, REGULAR_NAME_DESCRIPTION_TYPE),
+            concept(DESCRIPTION_TYPE_FOR_DESCRIPTION, "Description type for description (SOLOR)", "Description type", "Linking for each description -> what type it is").parents(DESCRIPTION_VERSION_PROPERTIES),
+            concept(DESCRIPTION_TYPE_PREFERENCE_LIST_FOR_LANGUAGE_COORDINATE, "Description type preference list for language coordinate (SOLOR)", "Type order", "Null").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(DESCRIPTION_VERSION_PROPERTIES, "Description version properties (SOLOR)", "Description version properties", "Combination of terms that might be used in a specific context or domain").parents(VERSION_PROPERTIES).children(CASE_SIGNIFICANCE_CONCEPT_NID_FOR_DESCRIPTION, DESCRIPTION_TYPE_FOR_DESCRIPTION, LANGUAGE_CONCEPT_NID_FOR_DESCRIPTION, DESCRIPTION_DIALECT_PAIR),
+            concept(DESCRIPTION_LOGIC_PROFILE, "Description-logic profile (SOLOR)", "Description-logic profile", "Null").parents(TINKAR_MODEL_CONCEPT).children(EL_PLUS_PLUS_PROFILE),
+            concept(DESTINATION_MODULE_FOR_EDIT_COORDINATE, "Destination module for edit coordinate (SOLOR)", "Destination module", "Null").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(DEVELOPMENT_MODULE, "Development module (SOLOR)", "Development module", "Predefines or standard module within a system or application that is specifically designed to support the development phase of a project").parents(MODULE),
+            concept(DEVELOPMENT_PATH, "Development path", "Development path", "A path that specifies that the components are currently under development").parents(PATH),
+            concept(DIGRAPH_FIELD, "DiGraph field", "Instant/ DiGraph", "A display field that references a di-graph whose edges are ordered pairs of vertices. Each edge can be followed from one vertex to another vertex.").parents(DISPLAY_FIELDS),
+            concept(DITREE_FIELD, "DiTree field", "DiTree", "A display field that references a graph obtained from an undirected tree by replacing each undirected edge by two directed edges with opposite directions.").parents(DISPLAY_FIELDS),
+            concept(DIALECT_FOR_DIALECT_AND_OR_DESCRIPTION_PAIR, "Dialect for dialect/description pair (SOLOR)", "Dialect for dialect/description pair", "Specific dialect").parents(DESCRIPTION_DIALECT_PAIR),
+            concept(DIGRAPH_FOR_LOGIC_COORDINATE, "Digraph for logic coordinate (SOLOR)", "Digraph", "A value which describes a immutable coordinate property").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(DIRECTED_GRAPH, "Directed graph (SOLOR)", "NavigationCoordinate/Directed graph", "Null").parents(TINKAR_MODEL_CONCEPT).children(EL_PLUS_PLUS_DIGRAPH),
+            concept(DISJOINT_WITH, "Disjoint with (SOLOR)", "Disjoint with", "An operator").parents(CONNECTIVE_OPERATOR),
+            concept(DISPLAY_FIELDS, "Display Fields", "Display fields", "Captures the human readable terms").parents(TINKAR_MODEL_CONCEPT).children(COMPONENT_FIELD, COMPONENT_ID_LIST_FIELD, COMPONENT_ID_SET_FIELD, CONCEPT_FIELD, DIGRAPH_FIELD, DITREE_FIELD, FLOAT_FIELD, INTEGER_FIELD, SEMANTIC_FIELD_TYPE, STRING, DECIMAL_FIELD),
+            concept(DOUBLE_FIELD, "Double field (SOLOR)", "Double field", "A data value (type of structure for data)").parents(DISPLAY_FIELDS),
+            concept(DUTCH_LANGUAGE, "Dutch language (SOLOR)", "Dutch language", "Dutch language").parents(LANGUAGE),
+            concept(EL_PROFILE_SET_OPERATOR, "El profile set operator (SOLOR)", "EL profile set operator", "EL profile set operator").parents(MEANING).children(NECESSARY_SET, SUFFICIENT_SET),
+            concept(EL_PLUS_PLUS_TERMINOLOGICAL_AXIOMS, "EL++ terminological axioms", "EL++ terminological axioms", "The set of relationships or axioms has defined by the EL++ Logic").parents(TINKAR_MODEL_CONCEPT).children(EL_PLUS_PLUS_INFERRED_TERMINOLOGICAL_AXIOMS, EL_PLUS_PLUS_STATED_TERMINOLOGICAL_AXIOMS),
+            concept(EL_PLUS_PLUS_INFERRED_CONCEPT_DEFINITION, "El++ Inferred Concept Definition (SOLOR)", "EL++ Inferred Concept Definition", "Null").parents(LOGICAL_DEFINITION),
+            concept(EL_PLUS_PLUS_INFERRED_TERMINOLOGICAL_AXIOMS, "EL++ Inferred terminological axioms", "EL++ Inferred terminological axioms", "Null").parents(EL_PLUS_PLUS_TERMINOLOGICAL_AXIOMS).children(NECESSARY_SET, SUFFICIENT_SET, INCLUSION_SET, ROLE, ROLE_GROUP),
+            concept(EL_PLUS_PLUS_STATED_CONCEPT_DEFINITION, "EL++ Stated Concept Definition (SOLOR)", "EL++ Stated Concept Definition", "Null").parents(LOGICAL_DEFINITION),
+            concept(EL_PLUS_PLUS_STATED_TERMINOLOGICAL_AXIOMS, "EL++ Stated terminological axioms", "EL++ Stated terminological axioms", "Null").parents(EL_PLUS_PLUS_TERMINOLOGICAL_AXIOMS).children(NECESSARY_SET, SUFFICIENT_SET, INCLUSION_SET, ROLE, ROLE_GROUP),
+            concept(EL_PLUS_PLUS_DIGRAPH, "EL++ digraph (SOLOR)", "EL++ digraph", "The directed graph that results from classifying a set of EL++ axioms").parents(DIRECTED_GRAPH),
+            concept(EL_PLUS_PLUS_PROFILE, "EL++ logic profile (SOLOR)", "EL ++ logic profile", "EL ++ profile").parents(DESCRIPTION_LOGIC_PROFILE),
+            concept(ENGLISH_LANGUAGE, "English Language", "English language", "Value for description language").parents(LANGUAGE),
+            concept(EQUAL_TO, "Equal to (SOLOR)", "Equal to", "A concept indicating the operator \"=\"").parents(CONCRETE_DOMAIN_OPERATOR),
+            concept(EXACT, "Exact (SOLOR)", "Exact", "Source and target are semantic or exact lexical match").parents(GROUPING),
+            concept(EXTENDED_DESCRIPTION_TYPE, "Extended description type (SOLOR)", "Extended description type", "Used to store non-snomed description types when other terminologies are imported").parents(DESCRIPTION_TYPE),
+            concept(EXTENDED_RELATIONSHIP_TYPE, "Extended relationship type (SOLOR)", "Extended relationship type", "Used to store non-snomed relationship types when other terminologies are imported- especially when a relationship is mapped onto a snomed relationship type (such as isa)").parents(DESCRIPTION_TYPE),
+            concept(DECIMAL_FIELD, "Decimal field", "Decimal field", "Represents values as high-precision decimal values.").parents(DISPLAY_FIELDS),
+            concept(FLOAT_FIELD, "Float field", "Float field", "Represents values as high-precision fractional values.").parents(DISPLAY_FIELDS),
+            concept(FLOAT_LITERAL, "Float literal (SOLOR)", "Float literal", "Numbers with decimal point or an exponential part").parents(LITERAL_VALUE),
+            concept(FLOAT_SUBSTITUTION, "Float substitution (SOLOR)", "Float substitution", "Null").parents(FIELD_SUBSTITUTION),
+            concept(FRENCH_DIALECT, "French dialect (SOLOR)", "French dialect", "French dialect").parents(DIALECT_ASSEMBLAGE),
+            concept(FRENCH_LANGUAGE, "French Language (SOLOR)", "French language", "French Language").parents(LANGUAGE),
+            concept(FULLY_QUALIFIED_NAME_DESCRIPTION_TYPE, "Fully qualified name description type", "Fully qualified name", "Fully qualified name is a description that uniquely identifies and differentiates it from other concepts with similar descriptions").parents(DESCRIPTION_TYPE),
+            concept(GB_ENGLISH_DIALECT, "Great Britain English dialect", "GB English dialect / GB English", "Great Britain: English Language reference set").parents(ENGLISH_DIALECT_ASSEMBLAGE),
+            concept(GERMAN_LANGUAGE, "German Language (SOLOR)", "German language", "German Language").parents(LANGUAGE),
+            concept(GREATER_THAN, "Greater than (SOLOR)", "Greater than", "A concept indicating the operator \">\"").parents(CONCRETE_DOMAIN_OPERATOR),
+            concept(GREATER_THAN_OR_EQUAL_TO, "Greater than or equal to (SOLOR)", "Greater than or equal to", "A concept indicating the operator \">=\"").parents(CONCRETE_DOMAIN_OPERATOR),
+            concept(GROUPING, "Health concept (SOLOR)", "Health concept", "Null").parents(TINKAR_MODEL_CONCEPT).children(EXACT, PARTIAL),
+            concept(HEALTH_CONCEPT, "Health concept (SOLOR)", "Health concept", "Null").parents(ROOT_VERTEX),
+            concept(IDENTIFIER_SOURCE, "Identifier Source", "Identifier source", "An identifier used to label the identity of a unique component.").parents(TINKAR_MODEL_CONCEPT).children(UNIVERSALLY_UNIQUE_IDENTIFIER),
+            concept(INCLUSION_SET, "Inclusion set", "Inclusion set", "A set of relationships that indicate something is has an inclusion. Not necessarily or sufficient but inclusive.").parents(EL_PLUS_PLUS_INFERRED_TERMINOLOGICAL_AXIOMS, EL_PLUS_PLUS_STATED_TERMINOLOGICAL_AXIOMS),
+            concept(INACTIVE_STATE, "Inactive state", "Inactive", "Concept used to represent a status for components that are no longer active").parents(STATUS_VALUE),
+            concept(INFERRED_PREMISE_TYPE, "Inferred premise type (SOLOR)", "Inferred relationship / Inferred", "The axiom view following the application of the reasoner").parents(AXIOM_ORIGIN),
+            concept(INSTANT_LITERAL, "Instant literal (SOLOR)", "Instant literal", "May refer to a specific point in time which is often represented by a date or time value").parents(LITERAL_VALUE),
+            concept(INSTANT_SUBSTITUTION, "Instant substitution (SOLOR)", "Instant substitution", "Substitution of instant literal?").parents(FIELD_SUBSTITUTION),
+            concept(INTEGER_FIELD, "Integer Field", "Integer field", "Data type that represents some range of mathematical integers").parents(DISPLAY_FIELDS),
+            concept(INVERSE_NAME, "Inverse name (SOLOR)", "Inverse name", "This is the extended description type that maye be attached to a description within a concept that defines as Association refex to signify that the referenced description  is the inverse of the association name").parents(DESCRIPTION_TYPE),
+            concept(INVERSE_TREE_LIST, "Inverse tree list (SOLOR)", "Inverse tree list", "Inverse tree list").parents(TREE_AMALGAM_PROPERTIES),
+            concept(IRISH_DIALECT, "Irish dialect (SOLOR)", "Irish dialect", "Irish dialect").parents(DIALECT_ASSEMBLAGE),
+            concept(IRISH_LANGUAGE, "Irish language (SOLOR)", "Irish language", "Irish language").parents(LANGUAGE),
+            concept(IS_A, "Is-a", "Is a", "Designates the parent child relationship").parents(TINKAR_MODEL_CONCEPT),
+            concept(IS_A_INFERRED_NAVIGATION, "Is-a inferred navigation (SOLOR)", "Is-a inferred navigation", "Designates the parent child relationship following the application of the reasoner").parents(NAVIGATION),
+            concept(IS_A_STATED_NAVIGATION, "Is-a stated navigation (SOLOR)", "Is-a stated navigation", "Designates the parent child relationship as authored").parents(NAVIGATION),
+            concept(ITALIAN_LANGUAGE, "Italian Language (SOLOR)", "Italian language", "Italian language").parents(LANGUAGE),
+            concept(KOMET_MODULE, "KOMET module (SOLOR)", "KOMET module", "Komet specific values?").parents(MODULE),
+            concept(KOMET_USER, "KOMET user (SOLOR)", "KOMET user", "Authorized to author, edit and/or view in Komet").parents(USER),
+            concept(KOMET_USER_LIST, "KOMET user list (SOLOR", "KOMET user list", "Inventory of authorized komet users").parents(USER),
+            concept(KOMET_ISSUE, "Komet issue (SOLOR)", "Komet issue", "Komet being the 'annotation type' - specified type").parents(ANNOTATION_TYPE),
+            concept(KOREAN_DIALECT, "Korean dialect (SOLOR)", "Korean dialect", "Korean dialect").parents(DIALECT_ASSEMBLAGE).children(STANDARD_KOREAN_DIALECT),
+            concept(KOREAN_LANGUAGE, "Korean Language (SOLOR)", "Korean language", "Korean language").parents(LANGUAGE),
+            concept(LANGUAGE, "Language", "Language", "Specifies the language of the description text.").parents(TINKAR_MODEL_CONCEPT).children(ENGLISH_LANGUAGE, SPANISH_LANGUAGE),
+            concept(LANGUAGE_CONCEPT_NID_FOR_DESCRIPTION, "Language concept nid for description (SOLOR)", "Language for description", "Captures the language code for a description").parents(DESCRIPTION_VERSION_PROPERTIES),
+            concept(LANGUAGE_COORDINATE_NAME, "Language coordinate name (SOLOR)", "Language coordinate name", "Null").parents(LANGUAGE_COORDINATE_PROPERTIES),
+            concept(LANGUAGE_COORDINATE_PROPERTIES, "Language coordinate properties (SOLOR)", "Language coordinate properties", "Spatial representation of language, attributes or language coordinates, programming language metadata?").parents(OBJECT_PROPERTIES).children(LANGUAGE_COORDINATE_NAME, DIALECT_ASSEMBLAGE_PREFERENCE_LIST_FOR_LANGUAGE_COORDINATE),
+            concept(LANGUAGE_NID_FOR_LANGUAGE_COORDINATE, "Language nid for language coordinate (SOLOR)", "Language nid", "Null").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(LANGUAGE_SPECIFICATION_FOR_LANGUAGE_COORDINATE, "Language specification for language coordinate (SOLOR)", "Language", "Null").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(LESS_THAN, "Less than (SOLOR)", "Less than", "A concept indicating the operator \"<\"").parents(CONCRETE_DOMAIN_OPERATOR),
+            concept(LESS_THAN_OR_EQUAL_TO, "Less than or equal to (SOLOR)", "Less than or equal to", "A concept indicating the operator \"<=\"").parents(CONCRETE_DOMAIN_OPERATOR),
+            concept(LITHUANIAN_LANGUAGE, "Lithuanian language (SOLOR)", "Lithuanian Language", "Lithuanian Language").parents(LANGUAGE),
+            concept(LOGIC_COORDINATE_NAME, "Logic coordinate name (SOLOR)", "Logic coordinate name", "Null").parents(LOGIC_COORDINATE_PROPERTIES),
+            concept(LOGIC_COORDINATE_PROPERTIES, "Logic coordinate properties (SOLOR)", "Logic coordinate properties", "Structural characteristics of logical elements, Attributes of Logical coordinates, Mathematical Representation of logical relationships ?").parents(OBJECT_PROPERTIES).children(LOGIC_COORDINATE_NAME),
+            concept(LOGICAL_DEFINITION, "Logical Definition", "Logical Definition", "The semantic value describing the purpose of the stated and inferred terminological axioms.").parents(TINKAR_MODEL_CONCEPT),
+            concept(LOGICAL_EXPRESSION_FIELD, "Logical expression field (SOLOR)", "Logical expression field", "Null").parents(DISPLAY_FIELDS),
+            concept(LOGICAL_EXPRESSION_SEMANTIC, "Logical expression semantic  (SOLOR)", "Logical expression semantic", "Null").parents(SEMANTIC_TYPE),
+            concept(LOGICALLY_EQUIVALENT_TO, "Logically equivalent to (Solor)", "Logically equivalent to", "An operator for the reasoner to determine the equivalence").parents(TAXONOMY_OPERATOR),
+            concept(MASTER_PATH, "Master path", "Master path", "A default path for components").parents(PATH),
+            concept(MEANING, "Meaning", "Meaning", "The interpretation or explanation field for a pattern/semantics").parents(TINKAR_MODEL_CONCEPT),
+            concept(MEMBERSHIP_SEMANTIC, "Membership semantic (SOLOR)", "Membership semantic", "Membership semantic").parents(SEMANTIC_TYPE),
+            concept(MODEL_CONCEPT, "Model concept", "Model concept", " ").parents(ROOT_VERTEX).children(TINKAR_MODEL_CONCEPT),
+            concept(TINKAR_MODEL_CONCEPT, "Tinkar Model concept", "Tinkar Model concept", " ").parents(MODEL_CONCEPT).children(AXIOM_ORIGIN, CONCRETE_DOMAIN_OPERATOR, DESCRIPTION, DESCRIPTION_ACCEPTABILITY, DESCRIPTION_CASE_SIGNIFICANCE, DESCRIPTION_SEMANTIC, DESCRIPTION_TYPE, DIALECT_ASSEMBLAGE, DISPLAY_FIELDS, EL_PLUS_PLUS_TERMINOLOGICAL_AXIOMS, IDENTIFIER_SOURCE, IDENTIFIER_VALUE, INFERRED_DEFINITION, IS_A, LANGUAGE, LOGICAL_DEFINITION, MEANING, PURPOSE, PHENOMENON, RELATIONSHIP_DESTINATION, RELATIONSHIP_ORIGIN, REFERENCE_RANGE, STATED_DEFINITION, TEXT_FOR_DESCRIPTION, VALUE_CONSTRAINT, VALUE_CONSTRAINT_SOURCE, AXIOM_SYNTAX),
+            concept(MODULE, "Module", "Module", "Null").parents(ROOT_VERTEX).children(PRIMORDIAL_MODULE),
+            concept(MODULE_EXCLUSION_SET_FOR_STAMP_COORDINATE, "Module exclusion set for stamp coordinate (SOLOR)", "Module exclusions", "Module exclusion set for stamp coordinate").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(MODULE_FOR_USER, "Module for user (SOLOR)", "Module for user", "User preference for Module?").parents(USER),
+            concept(MODULE_FOR_VERSION, "Module for version (SOLOR)", "Module", "Module Version").parents(VERSION_PROPERTIES),
+            concept(MODULE_OPTIONS_FOR_EDIT_COORDINATE, "Module options for edit coordinate (SOLOR)", "Module options", "Coordinate edit options for Module").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(MODULE_PREFERENCE_LIST_FOR_STAMP_COORDINATE, "Module preference list for stamp coordinate (SOLOR)", "Module Preference list", "Module preference list for stamp coordinate").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(MODULE_PREFERENCE_LIST_FOR_LANGUAGE_COORDINATE, "Module preference list for language coordinate (SOLOR)", "Module nids", "Module preference list for language coordinate").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(MODULE_PREFERENCE_ORDER_FOR_STAMP_COORDINATE, "Module preference order for stamp coordinate (SOLOR)", "Module order", "Module preference order for stamp coordinate").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(MODULES_FOR_STAMP_COORDINATE, "Modules for stamp coordinate (SOLOR)", "Modules", "Stamp coordinate modules").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(NAVIGATION, "Navigation (SOLOR)", "Navigation", "Navigation").parents(PURPOSE).children(NAVIGATION_CONCEPT_SET, NAVIGATION_VERTEX),
+            concept(NAVIGATION_CONCEPT_SET, "Navigation concept set (SOLOR)", "Navigation set", "Navigating sets of concepts?").parents(NAVIGATION),
+            concept(NAVIGATION_VERTEX, "Navigation vertex (SOLOR)", "Navigation vertex", "Navigation vertex").parents(NAVIGATION),
+            concept(NECESSARY_BUT_NOT_SUFFICIENT_CONCEPT_DEFINITION, "Necessary but not sufficient concept definition (SOLOR)", "Necessary but not sufficient concept definition", "Not sufficiently defined by necessary conditions definition status").parents(EL_PLUS_PLUS_STATED_TERMINOLOGICAL_AXIOMS, EL_PLUS_PLUS_INFERRED_TERMINOLOGICAL_AXIOMS),
+            concept(NECESSARY_SET, "Necessary set", "Necessary set", "A set of relationships that is always true of a concept.").parents(EL_PLUS_PLUS_STATED_TERMINOLOGICAL_AXIOMS, EL_PLUS_PLUS_INFERRED_TERMINOLOGICAL_AXIOMS),
+            concept(NOT_APPLICABLE, "Not Applicable (SOLOR)", "Not applicable", "Not available").parents(DESCRIPTION_CASE_SIGNIFICANCE),
+            concept(OBJECT, "Object (SOLOR)", "Object", "An encapsulation of data together with procedures").parents(ROOT_VERTEX).children(STATUS_VALUE, DESCRIPTION, NID, UNIVERSALLY_UNIQUE_IDENTIFIER, ANY_COMPONENT, UNINITIALIZED_COMPONENT, SANDBOX_COMPONENT, MODULE, PATH, OBJECT_PROPERTIES, HAS_ACTIVE_INGREDIENT, HAS_DOSE_FORM, LATERALITY),
+            concept(OBJECT_PROPERTIES, "Object Properties (SOLOR)", "Object properties", "Objects are instances of classes, the properties describe the data or attributes that an object can have").parents(OBJECT).children(ACTION_PROPERTIES, CHRONICLE_PROPERTIES, VERSION_PROPERTIES, IMMUTABLECOORDINATE_PROPERTIES, LANGUAGE_COORDINATE_PROPERTIES, LOGIC_COORDINATE_PROPERTIES, PATH_COORDINATE_PROPERTIES, SEMANTIC_PROPERTIES, TREE_AMALGAM_PROPERTIES, CORRELATION_PROPERTIES, TRANSITIVE_PROPERTY, REFLEXIVE_PROPERTY, ANNOTATION_PROPERTY_SET, DATA_PROPERTY_SET, PROPERTY_SEQUENCE_IMPLICATION),
+            concept(OR, "Or (SOLOR)", "Or", "Operator").parents(CONNECTIVE_OPERATOR),
+            concept(ORDER_FOR_AXIOM_ATTACHMENTS, "Order for axiom attachments (SOLOR)", "Axiom attachment order", "Order in which axioms are attached").parents(USER),
+            concept(ORDER_FOR_CONCEPT_ATTACHMENTS, "Order for concept attachments  (SOLOR)", "Concept attachment order", "Order in which concepts are attached").parents(USER),
+            concept(ORDER_FOR_DESCRIPTION_ATTACHMENTS, "Order for description attachments (SOLOR)", "Description attachment order", "Order in which descriptions are attached").parents(USER),
+            concept(PART_OF, "Part of (SOLOR)", "Part of", "Part of an attribute").parents(CONNECTIVE_OPERATOR),
+            concept(PARTIAL, "Partial (SOLOR)", "Partial", "Exists in/ Inclusion of ?").parents(GROUPING),
+            concept(PATH, "Path", "Path", "A set of assets under version control that can be managed distinctly from other assets. Paths “branch” from other paths when established, and can be “merged” with other paths as well.").parents(ROOT_VERTEX).children(DEVELOPMENT_PATH, MASTER_PATH, PRIMORDIAL_PATH, SANDBOX_PATH),
+            concept(PATH_CONCEPT, "Path concept (SOLOR)", "Path concept", "Path concept").parents(CONCEPT_TYPE),
+            concept(PATH_COORDINATE_NAME, "Path coordinate name (SOLOR)", "Path coordinate name", "Path coordinate name").parents(PATH_COORDINATE_PROPERTIES),
+            concept(PATH_COORDINATE_PROPERTIES, "Path coordinate properties (SOLOR)", "Path coordinate properties", "Character or attribute of coordinates referring to a series of connected points, that form a shape or trajectory").parents(OBJECT_PROPERTIES).children(PATH_COORDINATE_NAME, PATH_ORIGINS),
+            concept(PATH_FOR_PATH_COORDINATE, "Path for path coordinate (SOLOR)", "Path", "Path for path coordinate").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(PATH_FOR_USER, "Path for user (SOLOR)", "Path for user", "Path for user").parents(USER),
+            concept(PATH_FOR_VERSION, "Path for version", "Path", "Version path").parents(VERSION_PROPERTIES),
+            concept(PATH_OPTIONS_FOR_EDIT_CORDINATE, "Path options for edit coordinate (SOLOR)", "Path options", "Path options for edit coordinate").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(PATH_ORIGINS, "Path origins (SOLOR)", "Path origins", "Path origins").parents(PATH_COORDINATE_PROPERTIES),
+            concept(PATH_ORIGINS_FOR_STAMP_PATH, "Path origins for stamp path (SOLOR)", "Path origins", "Path origins for stamp path").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(PROMOTION_PATH_FOR_EDIT_CORDINATE, "Promotion Path for Edit Coordinate (SOLOR)", "Promotion Path for Edit Coordinate", "Promotion Path for Edit Coordinate").parents(PATH_COORDINATE_PROPERTIES),
+            concept(PHENOMENON, "Phenomenon", "Phenomenon", "A unique thought, fact, or circumstance").parents(TINKAR_MODEL_CONCEPT).children(EXAMPLE_UCUM_UNITS),
+            concept(POLISH_DIALECT, "Polish dialect (SOLOR)", "Polish dialect", "Polish Dialect").parents(DIALECT_ASSEMBLAGE),
+            concept(POLISH_LANGUAGE, "Polish Language (Language)", "Polish language", "Polish Language").parents(LANGUAGE),
+            concept(PREFERRED, "Preferred (SOLOR)", "Preferred", "Preferred( Foundation metadata concept)").parents(DESCRIPTION_ACCEPTABILITY),
+            concept(PRESENTATION_UNIT_DIFFERENT, "Presentation unit different (SOLOR)", "Presentation unit different", "Unit difference").parents(MEANING),
+            concept(PRIMORDIAL_UUID_FOR_CHRONICLE, "Primordial UUID for chronicle (SOLOR)", "Primordial UUID", "Primordial UUID").parents(CHRONICLE_PROPERTIES),
+            concept(PRIMORDIAL_MODULE, "Primordial module", "Primordial module", " ").parents(MODULE),
+            concept(PRIMORDIAL_PATH, "Primordial path", "Primordial path", " ").parents(PATH),
+            concept(PRIMORDIAL_STATE, "Primordial state", "Primordial", "Concept used to represent a status for components that have not yet been released and exist in their most basic form.").parents(STATUS_VALUE),
+            concept(REFERENCED_COMPONENT_NID_FOR_SEMANTIC, "Referenced component nid for semantic (SOLOR)", "Referenced component id", "Component id Referenced").parents(SEMANTIC_PROPERTIES),
+            concept(REFERENCED_COMPONENT_SUBTYPE_RESTRICTION, "Referenced component subtype restriction (SOLOR)", "Referenced component subtype restriction", "Stores the (optional) referenced component type sub restriction selection which will be used by the validator to check the user input for the referenced component when creating an instance of a dynamic field.").parents(ROLE_OPERATOR),
+            concept(REFERENCED_COMPONENT_TYPE_RESTRICTION, "Referenced component type restriction (SOLOR)", "Referenced component type restriction", "Stores the (Optional) referenced component type restriction selection which will be used by the validator to check the user input for the referenced component when creating an instance of a dynamic field").parents(ROLE_OPERATOR),
+            concept(REGULAR_NAME_DESCRIPTION_TYPE, "Regular name description type", "Regular name description type", "There may be descriptions/synonyms marked as “regular.”").parents(DESCRIPTION_TYPE),
+            concept(RELATIONSHIP_DESTINATION, "Relationship destination", "Relationship destination", "Signifies path to child concepts which are more specific than the Tinkar term").parents(TINKAR_MODEL_CONCEPT),
+            concept(RELATIONSHIP_ORIGIN, "Relationship origin", "Relationship origin", "Signifies path to parent concepts which are more general than the Tinkar term").parents(TINKAR_MODEL_CONCEPT),
+            concept(ROLE, "Role", "Role", "Is an abstract representation of a high-level role for a therapeutic medicinal product; the concepts are not intended to describe a detailed indication for therapeutic use nor imply that therapeutic use is appropriate in all clinical situations.").parents(ROLE_GROUP, EL_PLUS_PLUS_INFERRED_TERMINOLOGICAL_AXIOMS, EL_PLUS_PLUS_STATED_TERMINOLOGICAL_AXIOMS).children(ROLE_TYPE, ROLE_OPERATOR, ROLE_RESTRICTION),
+            concept(ROLE_GROUP, "Role group", "Role group", "An association between a set of attribute or axiom value pairs that causes them to be considered together within a concept definition or post coordinated expression.").parents(EL_PLUS_PLUS_STATED_TERMINOLOGICAL_AXIOMS, EL_PLUS_PLUS_INFERRED_TERMINOLOGICAL_AXIOMS).children(ROLE).withoutBaseModel(),
+            concept(ROLE_OPERATOR, "Role operator", "Role operator", "Concept that is used to describe universal vs existential restrictions.").parents(ROLE).children(UNIVERSAL_RESTRICTION, EXISTENTIAL_RESTRICTION).withoutBaseModel(),
+            concept(ROLE_RESTRICTION, ROLE_RESTRICTION.description(), "Role value", "Role restriction").parents(ROLE).withoutBaseModel(),
+            concept(ROLE_TYPE, "Role type", "Role type", "Refers to a concept that represents a particular kind of relationship that can exist between two entities. It defines the specific function or responsibility that one entity plays in relation to another.").parents(ROLE).withoutBaseModel(),
+            concept(ROLE_TYPE_TO_ADD, "Role type to add (SOLOR)", "Role type to add", "Action - add role type").parents(ACTION_PROPERTIES),
+            concept(ROOT_FOR_LOGIC_COORDINATE, "Root for logic coordinate (SOLOR)", "Root", "Logic coordinate root").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(RUSSIAN_DIALECT, "Russian dialect (SOLOR)", "Russian dialect", "Russian Dialect").parents(DIALECT_ASSEMBLAGE),
+            concept(RUSSIAN_LANGUAGE, "Russian language (SOLOR)", "Russian language", "Russian language").parents(LANGUAGE),
+            concept(SANDBOX_COMPONENT, "Sandbox component (SOLOR)", "Sandbox component", "Sandbox component").parents(OBJECT).children(SANDBOX_MODULE, SANDBOX_PATH),
+            concept(SANDBOX_MODULE, "Sandbox module (SOLOR)", "Sandbox module", "Sandbox module").parents(MODULE, SANDBOX_COMPONENT).children(SANDBOX_PATH_MODULE),
+            concept(SANDBOX_PATH, "Sandbox path", "Sandbox path", "A path for components under testing.").parents(PATH),
+            concept(SANDBOX_PATH_MODULE, "Sandbox path module (SOLOR)", "Sandbox Path module", "Sandbox path module").parents(SANDBOX_MODULE),
+            concept(SEMANTIC_FIELD_CONCEPTS, "Semantic field concepts (SOLOR)", "Semantic field concepts", "Semantic field concepts").parents(CONCEPT_TYPE),
+            concept(SEMANTIC_FIELD_NAME, "Semantic field name (SOLOR)", "Field name", "Field name - semantics").parents(SEMANTIC_PROPERTIES),
+            concept(SEMANTIC_FIELD_TYPE, "Semantic field type (SOLOR)", "Semantic field type", "List of fields-  semantic").parents(DISPLAY_FIELDS),
+            concept(SEMANTIC_PROPERTIES, "Semantic properties (SOLOR)", "Semantic properties", "The attributes or characteristics of a concept, term, or element that convey meaning or semantics in a given context").parents(OBJECT_PROPERTIES).children(REFERENCED_COMPONENT_NID_FOR_SEMANTIC, COMPONENT_FOR_SEMANTIC, LOGIC_GRAPH_FOR_SEMANTIC, SEMANTIC_FIELD_NAME),
+            concept(SEMANTIC_TYPE, "Semantic type (SOLOR)", "Semantic type", "Type- semantic").parents(MEANING).children(COMPONENT_SEMANTIC, CONCEPT_SEMANTIC, DESCRIPTION_SEMANTIC, LOGICAL_EXPRESSION_SEMANTIC, MEMBERSHIP_SEMANTIC),
+            concept(SIGNED_INTEGER, "Signed integer (SOLOR)", "Signed integer", "Signed integer (Foundation metadata concept)").parents(DYNAMIC_COLUMN_DATA_TYPES),
+            concept(SPANISH_LANGUAGE, "Spanish language", "Spanish language", "Value for the description language dialect").parents(LANGUAGE),
+            concept(STANDARD_KOREAN_DIALECT, "Standard Korean dialect (SOLOR)", "Standard Korean Dialect", "Standard").parents(KOREAN_DIALECT),
+            concept(STATED_PREMISE_TYPE, "Stated premise type (SOLOR)", "Stated", "Stated relationship").parents(AXIOM_ORIGIN),
+            concept(STATUS_FOR_VERSION, "Status for version (SOLOR)", "Status for version", "Version status?").parents(VERSION_PROPERTIES),
+            concept(STATUS_VALUE, "Status value", "Status", "The status of the STAMP Coordinate(Active, Cancelled, Inactive, Primordial)").parents(ROOT_VERTEX).children(ACTIVE_STATE, CANCELED_STATE, INACTIVE_STATE, PRIMORDIAL_STATE, WITHDRAWN_STATE),
+            concept(STRING, "String", "String", "A sequence of characters, either as a literal constant or as a variable. Strings could be used to represent terms from code systems or URLs, textual definitions, etc.").parents(DISPLAY_FIELDS),
+            concept(SUFFICIENT_CONCEPT_DEFINITION, "Sufficient concept definition (SOLOR)", "Sufficient concept definition", "Concept definition - Sufficient").parents(SUFFICIENT_CONCEPT_DEFINITION_OPERATOR),
+            concept(SUFFICIENT_CONCEPT_DEFINITION_OPERATOR, "Sufficient concept definition operator (SOLOR)", "Sufficient concept definition operator", "Concept definition operator").parents(MEANING).children(SUFFICIENT_CONCEPT_DEFINITION, NECESSARY_BUT_NOT_SUFFICIENT_CONCEPT_DEFINITION),
+            concept(SUFFICIENT_SET, "Sufficient set", "Sufficient set", "A set of relationships that differentiate a concept and its subtypes from all other concepts. A concept that contains at least one set of necessary and sufficient conditions is considered defined.").parents(EL_PLUS_PLUS_STATED_TERMINOLOGICAL_AXIOMS, EL_PLUS_PLUS_INFERRED_TERMINOLOGICAL_AXIOMS),
+            concept(SWEDISH_LANGUAGE, "Swedish language (SOLOR)", "Swedish language", "Swedish Language").parents(LANGUAGE),
+            concept(TEXT_FOR_DESCRIPTION, "Text for description", "Text", "Captures the human readable text for a description in Komet").parents(TINKAR_MODEL_CONCEPT),
+            concept(TIME_FOR_VERSION, "Time for version (SOLOR)", "Time for version", "Version time").parents(VERSION_PROPERTIES),
+            concept(TREE_AMALGAM_PROPERTIES, "Tree amalgam properties (SOLOR)", "Tree amalgam properties", "Data structure that consists of nodes connected by edges (a mixture or blend of different elements)").parents(OBJECT_PROPERTIES).children(INVERSE_TREE_LIST, TREE_LIST),
+            concept(TREE_LIST, "Tree list (SOLOR)", "Tree list", "List - Tree").parents(TREE_AMALGAM_PROPERTIES),
+            concept(US_ENGLISH_DIALECT, "United States of America English dialect (SOLOR)", "US English dialect", "USA -english dialect").parents(ENGLISH_DIALECT_ASSEMBLAGE).children(US_NURSING_DIALECT),
+            concept(US_NURSING_DIALECT, "US Nursing dialect (SOLOR)", "United States English Nursing Dialect", "Nursing Dialect -US English").parents(US_ENGLISH_DIALECT),
+            concept(UUID_DATA_TYPE, "UUID data type (SOLOR)", "UUID data type", "Distinction of data type of UUID").parents(DYNAMIC_COLUMN_DATA_TYPES),
+            concept(UUID_FIELD, "UUID field (SOLOR)", "UUID field", "Universally unique identifier field").parents(DISPLAY_FIELDS),
+            concept(UUID_LIST_FOR_COMPONENT, "UUID list for component (SOLOR)", "UUIDs", "UUIDs").parents(CHRONICLE_PROPERTIES),
+            concept(UNCATEGORIZED_PHENOMENON, "Uncategorized phenomenon (SOLOR)", "Uncategorized phenomenon", "Unknown").parents(PHENOMENON),
+            concept(UNINITIALIZED_COMPONENT, "Uninitialized Component (SOLOR)", "Uninitialized", "Not initialized component").parents(OBJECT),
+            concept(UNIVERSAL_RESTRICTION, "Universal Restriction", "Universal Restriction", "Universal restrictions constrain the relationships along a given property to concepts that are members of a specific class.").parents(ROLE_OPERATOR),
+            concept(UNIVERSALLY_UNIQUE_IDENTIFIER, "UNIVERSALLY_UNIQUE_IDENTIFIER", "UUID", "A universally unique identifier that uniquely represents a concept in Tinkar").parents(IDENTIFIER_SOURCE),
+            concept(USER, "Author", "Author", "Null").parents(ROOT_VERTEX).children(KOMET_USER, KOMET_USER_LIST, MODULE_FOR_USER, ORDER_FOR_AXIOM_ATTACHMENTS, ORDER_FOR_CONCEPT_ATTACHMENTS, ORDER_FOR_DESCRIPTION_ATTACHMENTS, PATH_FOR_USER, STARTER_DATA_AUTHORING),
+            concept(VERSION_LIST_FOR_CHRONICLE, "Version list for chronicle (SOLOR)", "Versions", "Chronicle version list").parents(CHRONICLE_PROPERTIES),
+            concept(VERSION_PROPERTIES, "Version Properties (SOLOR)", "Version properties", "Null").parents(OBJECT_PROPERTIES).children(AUTHOR_FOR_VERSION, MODULE_FOR_VERSION, PATH_FOR_VERSION, STATUS_FOR_VERSION, TIME_FOR_VERSION, DESCRIPTION_VERSION_PROPERTIES),
+            concept(VERTEX_FIELD, "Vertex field (SOLOR)", "Vertex", "Field for Vertex").parents(DISPLAY_FIELDS),
+            concept(VERTEX_STATE_SET, "Vertex state set (SOLOR)", "Vertex states", "Vertex states").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(VERTEX_SORT, "Vertex sort (SOLOR)", "Sort", "Vertex sort").parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(VIEW_COORDINATE_KEY, "View coordinate key (SOLOR)", "View Key", "View Key").parents(QUERY_CLAUSES),
+            concept(WITHDRAWN_STATE, "Withdrawn state", "Withdrawn", "Concept used to represent a status for components that are withdrawn.").parents(STATUS_VALUE),
+            concept(BOOLEAN, "Boolean (SOLOR)", "Boolean", "Data type").parents(DYNAMIC_COLUMN_DATA_TYPES),
+            concept(BYTE_ARRAY, "Byte array (SOLOR)", "Byte array", "Data type").parents(DYNAMIC_COLUMN_DATA_TYPES),
+            concept(DESCRIPTION_LIST_FOR_CONCEPT, "Description list for concept (SOLOR)", "Description list for concept", "List of description").parents(TINKAR_MODEL_CONCEPT),
+            concept(DOUBLE, "Double (SOLOR)", "Double", "Data type").parents(DYNAMIC_COLUMN_DATA_TYPES),
+            concept(FLOAT, "Float (SOLOR)", "Float", "Data type").parents(DYNAMIC_COLUMN_DATA_TYPES),
+            concept(TinkarTerm.DECIMAL, "Decimal (SOLOR)", "Decimal", "Data type").parents(DYNAMIC_COLUMN_DATA_TYPES),
+            concept(LOGIC_GRAPH_FOR_SEMANTIC, "Logic graph for semantic (SOLOR)", "Logic graph", "Semantic").parents(SEMANTIC_PROPERTIES),
+            concept(LONG, "Long (SOLOR)", "Long", "Data type").parents(DYNAMIC_COLUMN_DATA_TYPES),
+            concept(NID, "NID (SOLOR)", "Native Identifier", "Data type").parents(OBJECT),
+            concept(SEMANTIC_LIST_FOR_CHRONICLE, "Semantic list for chronicle (SOLOR)", "Semantic list for chronicle", "Semantic list").parents(CHRONICLE_PROPERTIES),
+            concept(USERS_MODULE, "Users module (SOLOR)", "User module", "Module - user").parents(MODULE),
+            concept(ROOT_VERTEX, "Integrated Knowledge Management (SOLOR)", "Tinkar root concept", "Terminologies that are represented in a harmonized manner").children(MODEL_CONCEPT, MEANING, OBJECT, ROLE, USER, ANNOTATION_TYPE, CREATIVE_COMMONS_BY_LICENSE, HEALTH_CONCEPT).isA(ROOT_VERTEX).dialectsOnConcept(),
+            concept(QUERY_CLAUSES, "Query clauses (SOLOR)", "Query clauses", "A distinct component/query that serves a specific purpose").parents(MEANING).children(BOOLEAN_REFERENCE, VIEW_COORDINATE_KEY),
+            concept(FIELD_SUBSTITUTION, "Field substitution (SOLOR)", "Field substitution", "Replacing a placeholder variable in a field with a specific value").parents(MEANING).children(BOOLEAN_SUBSTITUTION, CONCEPT_SUBSTITUTION, FLOAT_SUBSTITUTION, INSTANT_SUBSTITUTION),
+            concept(TAXONOMY_OPERATOR, "Taxonomy operator (SOLOR)", "Taxonomy operator", "An operator or set of operations applied within the context of a taxonomy").parents(MEANING).children(LOGICALLY_EQUIVALENT_TO),
+            concept(IMMUTABLECOORDINATE_PROPERTIES, "ImmutableCoordinate Properties (SOLOR)", "ImmutableCoordinate properties", "A set of values or data representing a point in space that one established cannot be changed?").parents(OBJECT_PROPERTIES).children(ALLOWED_STATES_FOR_STAMP_COORDINATE, AUTHORS_FOR_STAMP_COORDINATE, MODULE_EXCLUSION_SET_FOR_STAMP_COORDINATE, MODULE_PREFERENCE_LIST_FOR_STAMP_COORDINATE, MODULE_PREFERENCE_ORDER_FOR_STAMP_COORDINATE, MODULES_FOR_STAMP_COORDINATE, AUTHOR_FOR_EDIT_COORDINATE, DEFAULT_MODULE_FOR_EDIT_COORDINATE, DESTINATION_MODULE_FOR_EDIT_COORDINATE, MODULE_OPTIONS_FOR_EDIT_COORDINATE, PATH_OPTIONS_FOR_EDIT_CORDINATE, DESCRIPTION_LOGIC_PROFILE_FOR_LOGIC_COORDINATE, DIGRAPH_FOR_LOGIC_COORDINATE, ROOT_FOR_LOGIC_COORDINATE, DESCRIPTION_TYPE_PREFERENCE_LIST_FOR_LANGUAGE_COORDINATE, LANGUAGE_NID_FOR_LANGUAGE_COORDINATE, LANGUAGE_SPECIFICATION_FOR_LANGUAGE_COORDINATE, MODULE_PREFERENCE_LIST_FOR_LANGUAGE_COORDINATE, PATH_FOR_PATH_COORDINATE, PATH_ORIGINS_FOR_STAMP_PATH, VERTEX_SORT, VERTEX_STATE_SET, STATED_ASSEMBLAGE_FOR_LOGIC_COORDINATE, INFERRED_ASSEMBLAGE_FOR_LOGIC_COORDINATE, CLASSIFIER_FOR_LOGIC_COORDINATE, POSITION_ON_PATH),
+            concept(PURPOSE, "Purpose", "Purpose", "The reason for which a Tinkar value in a pattern was created or for which it exist.").parents(TINKAR_MODEL_CONCEPT),
+            concept(ACTION_PROPERTIES, "Action properties (SOLOR)", "Action properties", "Attributes of an action object").parents(OBJECT_PROPERTIES).children(CONCEPT_CONSTRAINTS, CONCEPT_TO_FIND, ROLE_TYPE_TO_ADD, CONDITIONAL_TRIGGERS),
+            concept(LITERAL_VALUE, "Literal value (SOLOR)", "Literal value", "Fixed Value/Constant?").parents(MEANING).children(BOOLEAN_LITERAL, FLOAT_LITERAL, INSTANT_LITERAL),
+            concept(DIALECT_ASSEMBLAGE, "Dialect", "Dialect", "Specifies the dialect of the language.").parents(TINKAR_MODEL_CONCEPT).children(CZECH_DIALECT, ENGLISH_DIALECT_ASSEMBLAGE, FRENCH_DIALECT, IRISH_DIALECT, KOREAN_DIALECT, POLISH_DIALECT, RUSSIAN_DIALECT),
+            concept(DYNAMIC_COLUMN_DATA_TYPES, "Dynamic column data types (SOLOR)", "Dynamic column data types", "Data storage system where the structure of the data can be altered or extended dynamically?").parents(MEANING).children(ARRAY, BOOLEAN, BYTE_ARRAY, DOUBLE, FLOAT, LONG, SIGNED_INTEGER, STRING, UUID_DATA_TYPE, DECIMAL),
+            // TODO: Get coordinates to work via Komet's KometTerm
+            concept(POSITION_ON_PATH, POSITION_ON_PATH.description(), POSITION_ON_PATH.description(), POSITION_ON_PATH.description()).parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(STATED_ASSEMBLAGE_FOR_LOGIC_COORDINATE, STATED_ASSEMBLAGE_FOR_LOGIC_COORDINATE.description(), "Stated assemblage", STATED_ASSEMBLAGE_FOR_LOGIC_COORDINATE.description()).parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(INFERRED_ASSEMBLAGE_FOR_LOGIC_COORDINATE, INFERRED_ASSEMBLAGE_FOR_LOGIC_COORDINATE.description(), "Inferred assemblage", INFERRED_ASSEMBLAGE_FOR_LOGIC_COORDINATE.description()).parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(CONCEPT_ASSEMBLAGE_FOR_LOGIC_COORDINATE, CONCEPT_ASSEMBLAGE_FOR_LOGIC_COORDINATE.description(), "Concepts to classify", CONCEPT_ASSEMBLAGE_FOR_LOGIC_COORDINATE.description()).parents(DESCRIPTION_TYPE),
+            concept(CLASSIFIER_FOR_LOGIC_COORDINATE, CLASSIFIER_FOR_LOGIC_COORDINATE.description(), "Classifier", CLASSIFIER_FOR_LOGIC_COORDINATE.description()).parents(IMMUTABLECOORDINATE_PROPERTIES),
+            concept(DIALECT_ASSEMBLAGE_PREFERENCE_LIST_FOR_LANGUAGE_COORDINATE, DIALECT_ASSEMBLAGE_PREFERENCE_LIST_FOR_LANGUAGE_COORDINATE.description(), "Dialect order", DIALECT_ASSEMBLAGE_PREFERENCE_LIST_FOR_LANGUAGE_COORDINATE.description()).parents(LANGUAGE_COORDINATE_PROPERTIES),
+            concept(SOLOR_OVERLAY_MODULE, "SOLOR overlay module (SOLOR)", "SOLOR overlay module", SOLOR_OVERLAY_MODULE.description()).parents(DESCRIPTION_TYPE),
+            concept(SOLOR_MODULE, "SOLOR module (SOLOR)", "SOLOR module", SOLOR_MODULE.description()).parents(DESCRIPTION_TYPE),
+            concept(TRANSITIVE_PROPERTY, "Transitive Feature (SOLOR)", "Transitive Feature", TRANSITIVE_PROPERTY.description()).parents(OBJECT_PROPERTIES),
+            concept(REFLEXIVE_PROPERTY, "Reflexive Feature (SOLOR)", "Reflexive Feature", REFLEXIVE_PROPERTY.description()).parents(OBJECT_PROPERTIES),
+            concept(LATERALITY, "Laterality (SOLOR)", "Laterality", LATERALITY.description()).parents(OBJECT),
+            concept(HAS_ACTIVE_INGREDIENT, "Has Active Ingredient (SOLOR)", "Has Active Ingredient", HAS_ACTIVE_INGREDIENT.description()).parents(OBJECT),
+            concept(HAS_DOSE_FORM, "Has Dose Form (SOLOR)", "Has Dose Form", HAS_DOSE_FORM.description()).parents(OBJECT),
+            concept(UNMODELED_ROLE_CONCEPT, "Unmodeled role concept (SOLOR)", "Unmodeled role concept", UNMODELED_ROLE_CONCEPT.description()).parents(DESCRIPTION_TYPE),
+            concept(DYNAMIC_REFERENCED_COMPONENT_RESTRICTION, "Dynamic referenced component restriction (SOLOR)", "Dynamic referenced component restriction", DYNAMIC_REFERENCED_COMPONENT_RESTRICTION.description()).parents(DESCRIPTION_TYPE),
+            concept(EXISTENTIAL_RESTRICTION, "Existential restriction", "Existential restriction", "Existential restrictions describe objects that participate in at least one relationship along a specified property to objects of a specified class.").parents(ROLE_OPERATOR),
+            concept(INTRINSIC_ROLE, "Intrinsic role (SOLOR)", "Intrinsic role", INTRINSIC_ROLE.description()).parents(DESCRIPTION_TYPE),
+            concept(PROPERTY_PATTERN_IMPLICATION, "Property pattern implication (SOLOR)", "Property pattern implication", PROPERTY_PATTERN_IMPLICATION.description()).parents(DESCRIPTION_TYPE),
+            concept(SNOROCKET_CLASSIFIER, "SnoRocket classifier (SOLOR)", "SnoRocket classifier", SNOROCKET_CLASSIFIER.description()).parents(DESCRIPTION_TYPE),
+            concept(PROPERTY_SET, "Property set (SOLOR)", "Property set", PROPERTY_SET.description()).parents(DESCRIPTION_TYPE),
+            concept(FEATURE, "Feature (SOLOR)", "Feature", FEATURE.description()).parents(DESCRIPTION_TYPE),
+            concept(EXAMPLE_UCUM_UNITS, "Example UCUM Units (SOLOR)", "Example UCUM Units", "The Unified Code for Units of Measure (UCUM) is a code system intended to include all units of measures being contemporarily used in international science, engineering, and business. (www.unitsofmeasure.org) This field contains example units of measures for this term expressed as UCUM units.").parents(PHENOMENON),
+            concept(INFERRED_DEFINITION, "Inferred Definition (SOLOR)", "Inferred Definition", "The relationships/axioms of a concept that have been inferred").parents(TINKAR_MODEL_CONCEPT),
+            concept(IDENTIFIER_VALUE, "Identifier Value (SOLOR)", "Identifier Value", "The literal string value identifier").parents(TINKAR_MODEL_CONCEPT),
+            concept(MAXIMUM_VALUE_OPERATOR, "Maximum Value Operator (SOLOR)", "Maximum Value Operator; Maximum Domain Operator", "The Value Operator assigned to the Maximum Value in a Range").parents(CONCRETE_DOMAIN_OPERATOR),
+            concept(MINIMUM_VALUE_OPERATOR, "Minimum Value Operator (SOLOR)", "Minimum Value Operator; Minimum Domain Operator", "The Value Operator assigned to the Minimum Value in a Range").parents(CONCRETE_DOMAIN_OPERATOR),
+            concept(REFERENCE_RANGE, "Reference Range (SOLOR)", "Value Range", "The range of values specific to a component").parents(TINKAR_MODEL_CONCEPT).children(REFERENCE_RANGE_MAXIMUM, REFERENCE_RANGE_MINIMUM),
+            concept(REFERENCE_RANGE_MAXIMUM, "Reference Range Maximum (SOLOR)", "Maximum Value; Max Value", "The highest possible value for a component").parents(REFERENCE_RANGE),
+            concept(REFERENCE_RANGE_MINIMUM, "Reference Range Minimum (SOLOR)", "Minimum Value; Min Value", "The lowest possible value for a component").parents(REFERENCE_RANGE),
+            concept(STATED_DEFINITION, "Stated Definition (SOLOR)", "Stated Definition", "Relationships/Axioms of a concept that have been explicitly stated and defined").parents(TINKAR_MODEL_CONCEPT),
+            concept(VALUE_CONSTRAINT, "Value Constraint (SOLOR)", "Value Constraint", "A component has specific value requirements that needs to be met").parents(TINKAR_MODEL_CONCEPT),
+            concept(VALUE_CONSTRAINT_SOURCE, "Value Constraint Source (SOLOR)", "Value Constraint Source", "The source organization of that specifies the constraint").parents(TINKAR_MODEL_CONCEPT),
+            concept(FEATURE_TYPE, "Feature Type (SOLOR)", "Feature Type", FEATURE_TYPE.description()).parents(OBJECT_PROPERTIES).synonymDialectOnConcept(),
+            concept(PROPERTY_SEQUENCE, "Property Sequence (SOLOR)", "Property Sequence", PROPERTY_SEQUENCE.description()).parents(OBJECT_PROPERTIES).synonymDialectOnConcept(),
+            concept(STATED_NAVIGATION, "Stated navigation (SOLOR)", "Stated navigation", STATED_NAVIGATION.description()).parents(DESCRIPTION_TYPE).identifierFrom(CONCEPT_ASSEMBLAGE_FOR_LOGIC_COORDINATE),
+            concept(INFERRED_NAVIGATION, "Inferred navigation (SOLOR)", "Inferred navigation", INFERRED_NAVIGATION.description()).parents(DESCRIPTION_TYPE).identifierFrom(CONCEPT_ASSEMBLAGE_FOR_LOGIC_COORDINATE),
+            concept(ANNOTATION_PROPERTY_SET, "Annotation property set", "Annotation property set", ANNOTATION_PROPERTY_SET.description()).parents(OBJECT_PROPERTIES).identifierFrom(TRANSITIVE_PROPERTY),
+            concept(DATA_PROPERTY_SET, "Data property set", "Data property set", DATA_PROPERTY_SET.description()).parents(OBJECT_PROPERTIES).identifierFrom(TRANSITIVE_PROPERTY),
+            concept(PROPERTY_SEQUENCE_IMPLICATION, "Property sequence implication", "Property sequence implication", PROPERTY_SEQUENCE_IMPLICATION.description()).parents(OBJECT_PROPERTIES).identifierFrom(TRANSITIVE_PROPERTY)
+    );
+
+    private TinkarStarterConcepts() {
+    }
+}
@@ -1,5 +1,8 @@
 package dev.ikm.tinkar;
 
+import dev.ikm.tinkar.data.compose.FlightRecording;
+import dev.ikm.tinkar.data.compose.ReproducibleExport;
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
@@ -7,25 +10,141 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
 @Mojo(name = "generate-data", requiresDependencyResolution = ResolutionScope.RUNTIME_PLUS_SYSTEM, defaultPhase = LifecyclePhase.COMPILE)
 public class TinkarStarterDataMojo extends AbstractMojo {
-    @Parameter(name = "dataStore", required = true)
+    /**
+     * Directory of the SpinedArrayStore the data is composed in. Required when storeMode is disk, unused otherwise.
+     */
+    @Parameter(name = "dataStore")
     private String dataStore;
 
     @Parameter(name = "exportFile", required = true)
     private String exportFile;
 
+    @Parameter(name = "entitiesFile")
+    private String entitiesFile;
+
+    @Parameter(name = "parallelism", defaultValue = "0")
+    private int parallelism;
+
+    @Parameter(name = "chunkSize", defaultValue = "0")
+    private int chunkSize;
+
+    @Parameter(name = "storeMode", property = "tinkar.storeMode", defaultValue = "disk")
+    private String storeMode;
+
+    @Parameter(name = "streamingExport", defaultValue = "false")
+    private boolean streamingExport;
+
+    /**
+     * Timestamp for reproducible output, in the format of {@code project.build.outputTimestamp}. When set, the export
+     * zip is byte-for-byte identical across builds of the same inputs. Not set by default; configure it as
+     * {@code ${project.build.outputTimestamp}} to opt in. Fails when combined with streamingExport.
+     */
+    @Parameter(name = "outputTimestamp", property = "tinkar.outputTimestamp")
+    private String outputTimestamp;
+
+    /**
+     * JSON file for the per-phase timing report. Defaults to {@code <export name>-report.json} next to the export.
+     */
+    @Parameter(name = "reportFile")
+    private String reportFile;
+
+    /**
+     * Records the run with Java Flight Recorder, including the data generation events, and writes
+     * {@code <export name>.jfr} next to the export file.
+     */
+    @Parameter(name = "flightRecording", property = "tinkar.flightRecording", defaultValue = "false")
+    private boolean flightRecording;
+
+    /**
+     * Regenerate even when the export file is up to date with its fingerprint.
+     */
+    @Parameter(name = "force", property = "tinkar.force", defaultValue = "false")
+    private boolean force;
+
+    /**
+     * The plugin's resolved runtime classpath, whose jars are part of the generation fingerprint.
+     */
+    @Parameter(defaultValue = "${plugin.artifacts}", readonly = true, required = true)
+    private List<Artifact> pluginArtifacts;
+
     @Override
     public void execute() throws MojoExecutionException {
+        TinkarStarterData.StoreMode mode = TinkarStarterData.StoreMode.valueOf(storeMode.toUpperCase(Locale.ROOT));
+        if (mode == TinkarStarterData.StoreMode.DISK && dataStore == null) {
+            throw new MojoExecutionException("dataStore is required when storeMode is disk");
+        }
         try {
+            File export = new File(exportFile);
+            File entities = entitiesFile != null ? new File(entitiesFile) : null;
+            File fingerprintFile = new File(exportFile + ".fingerprint");
+            GenerationFingerprint fingerprint = new GenerationFingerprint(fingerprintParameters(), pluginClasspath());
+            if (!force) {
+                Optional<String> staleReason = fingerprint.staleReason(export, entities, fingerprintFile);
+                if (staleReason.isEmpty()) {
+                    getLog().info("Skipping data generation, " + export + " is up to date with " + fingerprintFile);
+                    return;
+                }
+                getLog().info("Generating data: " + staleReason.get());
+            }
+
             String[] args = new String[2];
             args[0] = dataStore;
             args[1] = exportFile;
             TinkarStarterData starterData = new TinkarStarterData(args);
-            starterData.execute();
+            if (entities != null) {
+                starterData.setEntitiesFile(entities);
+            }
+            starterData.setParallelism(parallelism);
+            starterData.setChunkSize(chunkSize);
+            starterData.setStoreMode(mode);
+            starterData.setStreamingExport(streamingExport);
+            if (reportFile != null) {
+                starterData.setReportFile(new File(reportFile));
+            }
+            ReproducibleExport.parseOutputTimestamp(outputTimestamp).ifPresent(starterData::setOutputTimestamp);
+            if (flightRecording) {
+                File jfrFile = new File(export.getAbsoluteFile().getParentFile(), export.getName().replace(".zip", "") + ".jfr");
+                try (FlightRecording recording = new FlightRecording(jfrFile)) {
+                    starterData.execute();
+                }
+            } else {
+                starterData.execute();
+            }
+            fingerprint.write(export, entities, fingerprintFile);
         } catch (Exception e) {
             getLog().error(e);
             throw new MojoExecutionException(e.getMessage(), e);
         }
     }
+
+    private Map<String, File> pluginClasspath() {
+        Map<String, File> classpath = new LinkedHashMap<>();
+        for (Artifact artifact : pluginArtifacts) {
+            classpath.put(artifact.getGroupId() + ":" + artifact.getArtifactId()
+                    + (artifact.hasClassifier() ? ":" + artifact.getClassifier() : ""), artifact.getFile());
+        }
+        return classpath;
+    }
+
+    private Map<String, String> fingerprintParameters() {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("dataStore", dataStore);
+        parameters.put("exportFile", exportFile);
+        parameters.put("entitiesFile", entitiesFile);
+        parameters.put("parallelism", Integer.toString(parallelism));
+        parameters.put("chunkSize", Integer.toString(chunkSize));
+        parameters.put("storeMode", storeMode);
+        parameters.put("streamingExport", Boolean.toString(streamingExport));
+        parameters.put("outputTimestamp", outputTimestamp);
+        return parameters;
+    }
 }
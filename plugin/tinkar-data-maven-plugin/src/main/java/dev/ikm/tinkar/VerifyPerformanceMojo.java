@@ -0,0 +1,107 @@
+package dev.ikm.tinkar;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Generates, exports and imports the starter data, and fails the build when throughput dropped or peak heap grew
+ * beyond the configured fractions of a checked-in baseline.
+ * <p>
+ * The measurements run inside the Maven JVM: each iteration times one generation, export and import, without the
+ * warmup and forks of the JMH benchmarks in tinkar-data-benchmarks. The best of the iterations is compared, and the
+ * default thresholds are wide enough for that noise, so the goal catches large regressions only.
+ */
+@Mojo(name = "verify-performance", defaultPhase = LifecyclePhase.VERIFY)
+public class VerifyPerformanceMojo extends AbstractMojo {
+    @Parameter(name = "baselineFile", defaultValue = "${project.basedir}/performance-baseline.json")
+    private String baselineFile;
+
+    @Parameter(name = "resultFile", defaultValue = "${project.build.directory}/performance-result.json")
+    private String resultFile;
+
+    @Parameter(name = "workDirectory", defaultValue = "${project.build.directory}/verify-performance")
+    private String workDirectory;
+
+    @Parameter(name = "iterations", defaultValue = "3")
+    private int iterations;
+
+    /**
+     * Largest allowed drop in any throughput, as a fraction of the baseline.
+     */
+    @Parameter(name = "maxThroughputDrop", property = "tinkar.maxThroughputDrop", defaultValue = "0.25")
+    private double maxThroughputDrop;
+
+    /**
+     * Largest allowed growth in peak heap, as a fraction of the baseline.
+     */
+    @Parameter(name = "maxHeapGrowth", property = "tinkar.maxHeapGrowth", defaultValue = "0.25")
+    private double maxHeapGrowth;
+
+    /**
+     * Writes the measured results to the baseline file instead of comparing against it. Without it, a missing
+     * baseline fails the build.
+     */
+    @Parameter(name = "updateBaseline", property = "tinkar.updateBaseline", defaultValue = "false")
+    private boolean updateBaseline;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        File baseline = new File(baselineFile);
+        if (!updateBaseline && !baseline.isFile()) {
+            throw new MojoFailureException("No performance baseline at " + baseline
+                    + "; run with -Dtinkar.updateBaseline=true to record one.");
+        }
+        Map<String, Double> results;
+        try {
+            results = new PerformanceMeasurement(new File(workDirectory)).measure(iterations);
+            PerformanceBaseline.write(new File(resultFile), results);
+            if (updateBaseline) {
+                PerformanceBaseline.write(baseline, results);
+                getLog().warn("Wrote performance baseline " + baseline + "; check it in to enable the comparison.");
+                return;
+            }
+        } catch (Exception e) {
+            getLog().error(e);
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+
+        Map<String, Double> expected;
+        try {
+            expected = PerformanceBaseline.read(baseline);
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error while reading " + baseline, e);
+        }
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : results.entrySet()) {
+            Double expectedValue = expected.get(entry.getKey());
+            if (expectedValue == null || expectedValue <= 0) {
+                throw new MojoFailureException("Performance baseline " + baseline + " has no positive value for "
+                        + entry.getKey() + "; run with -Dtinkar.updateBaseline=true to record one.");
+            }
+            double actual = entry.getValue();
+            double change = (actual - expectedValue) / expectedValue;
+            String line = String.format(Locale.ROOT, "%s: %.1f (baseline %.1f, %+.1f%%)",
+                    entry.getKey(), actual, expectedValue, change * 100);
+            boolean heap = PerformanceMeasurement.PEAK_HEAP_BYTES.equals(entry.getKey());
+            if (heap ? change > maxHeapGrowth : -change > maxThroughputDrop) {
+                regressions.add(line);
+                getLog().error(line);
+            } else {
+                getLog().info(line);
+            }
+        }
+        if (!regressions.isEmpty()) {
+            throw new MojoFailureException("Performance regressed beyond the allowed thresholds: " + String.join("; ", regressions));
+        }
+    }
+}
@@ -1,12 +1,17 @@
 open module tinkar.starter.data {
     requires dev.ikm.tinkar.common;
     requires dev.ikm.tinkar.composer;
+    requires dev.ikm.tinkar.data.compose;
     requires dev.ikm.tinkar.entity;
     requires dev.ikm.tinkar.provider.executor;
     requires dev.ikm.tinkar.provider.spinedarray;
+    requires dev.ikm.tinkar.provider.ephemeral;
     requires dev.ikm.tinkar.provider.entity;
     requires dev.ikm.jpms.eclipse.collections.api;
     requires org.slf4j;
+    requires java.management;
+    requires jdk.management;
+    requires maven.artifact;
     requires maven.plugin.api;
     requires maven.plugin.annotations;
 }
\ No newline at end of file
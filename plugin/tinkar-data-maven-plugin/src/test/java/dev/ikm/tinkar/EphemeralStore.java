@@ -0,0 +1,53 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.common.service.CachingService;
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.composer.Composer;
+import dev.ikm.tinkar.composer.Session;
+import dev.ikm.tinkar.entity.EntityService;
+import dev.ikm.tinkar.terms.State;
+
+import java.util.function.Consumer;
+
+import static dev.ikm.tinkar.terms.TinkarTerm.PRIMORDIAL_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.PRIMORDIAL_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.USER;
+
+/**
+ * Starts and stops an empty in-memory store for tests, and composes starter data into it the way
+ * {@link TinkarStarterData} does.
+ */
+final class EphemeralStore {
+
+    private EphemeralStore() {
+    }
+
+    static void start() {
+        CachingService.clearAll();
+        PrimitiveData.selectControllerByName("Clean Ephemeral Store");
+        PrimitiveData.start();
+    }
+
+    static void stop() {
+        PrimitiveData.stop();
+    }
+
+    /**
+     * Composes every starter concept of the manifest in one session and commits it.
+     */
+    static void composeStarterConcepts() {
+        compose(session -> TinkarStarterConcepts.CONCEPTS.forEach(starterConcept -> starterConcept.compose(session)));
+    }
+
+    static void compose(Consumer<Session> group) {
+        EntityService.get().beginLoadPhase();
+        try {
+            Composer composer = new Composer("Test Composer");
+            Session session = composer.open(State.ACTIVE, PrimitiveData.PREMUNDANE_TIME, USER, PRIMORDIAL_MODULE, PRIMORDIAL_PATH);
+            group.accept(session);
+            composer.commitSession(session);
+        } finally {
+            EntityService.get().endLoadPhase();
+        }
+    }
+}
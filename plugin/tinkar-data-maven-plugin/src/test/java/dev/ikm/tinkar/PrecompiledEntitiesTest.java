@@ -0,0 +1,76 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.data.compose.PrecompiledEntities;
+import dev.ikm.tinkar.terms.TinkarTerm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Writes the composed starter concepts as precompiled entities, loads them into a new empty store and compares
+ * the two stores entity by entity. The starter concepts reference patterns that are not composed here, so their nids
+ * have no entity and must still map to the same public ids after loading.
+ */
+class PrecompiledEntitiesTest {
+
+    @TempDir
+    File tempDir;
+
+    @AfterEach
+    void stopStore() {
+        EphemeralStore.stop();
+    }
+
+    @Test
+    void loadRecreatesComposedStore() throws IOException {
+        File entitiesFile = new File(tempDir, "starter-entities.bin");
+        EphemeralStore.start();
+        EphemeralStore.composeStarterConcepts();
+        Map<Integer, byte[]> composed = storeContents();
+        int descriptionPatternNid = PrimitiveData.nid(TinkarTerm.DESCRIPTION_PATTERN.asUuidArray());
+        assertFalse(composed.containsKey(descriptionPatternNid));
+        assertEquals(composed.size(), PrecompiledEntities.write(entitiesFile));
+        EphemeralStore.stop();
+
+        EphemeralStore.start();
+        try (InputStream in = new FileInputStream(entitiesFile)) {
+            assertEquals(composed.size(), PrecompiledEntities.load(in));
+        }
+        Map<Integer, byte[]> loaded = storeContents();
+        assertEquals(descriptionPatternNid, PrimitiveData.nid(TinkarTerm.DESCRIPTION_PATTERN.asUuidArray()));
+
+        assertEquals(composed.keySet(), loaded.keySet());
+        composed.forEach((nid, bytes) -> assertArrayEquals(bytes, loaded.get(nid), "nid " + nid));
+    }
+
+    @Test
+    void loadRejectsNonEmptyStore() throws IOException {
+        File entitiesFile = new File(tempDir, "starter-entities.bin");
+        EphemeralStore.start();
+        EphemeralStore.composeStarterConcepts();
+        PrecompiledEntities.write(entitiesFile);
+
+        try (InputStream in = new FileInputStream(entitiesFile)) {
+            assertThrows(IllegalStateException.class, () -> PrecompiledEntities.load(in));
+        }
+    }
+
+    private static Map<Integer, byte[]> storeContents() {
+        Map<Integer, byte[]> contents = new ConcurrentSkipListMap<>();
+        PrimitiveData.get().forEach((bytes, nid) -> contents.put(nid, bytes));
+        return contents;
+    }
+}
@@ -0,0 +1,80 @@
+package dev.ikm.tinkar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Builds the starter data twice with the same output timestamp, with or without parallelism, and compares the
+ * SHA-256 of both exports.
+ */
+class ReproducibleExportTest {
+
+    private static final Instant OUTPUT_TIMESTAMP = Instant.parse("2024-01-01T00:00:00Z");
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void exportIsIdenticalAcrossBuilds() throws Exception {
+        File first = build("first");
+        File second = build("second");
+        assertEquals(sha256(first), sha256(second));
+    }
+
+    @Test
+    void exportIsIdenticalForAnyParallelism() throws Exception {
+        File sequential = build("sequential");
+        File parallel = build("parallel", 8);
+        assertEquals(sha256(sequential), sha256(parallel));
+    }
+
+    @Test
+    void rejectsDiskStoreWithoutDatastore() {
+        TinkarStarterData starterData = starterData("disk");
+        starterData.setStoreMode(TinkarStarterData.StoreMode.DISK);
+        assertThrows(IllegalArgumentException.class, starterData::execute);
+    }
+
+    @Test
+    void rejectsStreamingExport() {
+        TinkarStarterData starterData = starterData("streaming");
+        starterData.setStreamingExport(true);
+        assertThrows(IllegalArgumentException.class, starterData::execute);
+    }
+
+    private File build(String name) {
+        return build(name, 0);
+    }
+
+    private File build(String name, int parallelism) {
+        TinkarStarterData starterData = starterData(name);
+        starterData.setParallelism(parallelism);
+        starterData.execute();
+        return new File(tempDir, name + "-pb.zip");
+    }
+
+    private TinkarStarterData starterData(String name) {
+        // No datastore directory, which the in-memory store does not need.
+        TinkarStarterData starterData = new TinkarStarterData(new String[]{
+                null, new File(tempDir, name + "-pb.zip").getPath()});
+        starterData.setStoreMode(TinkarStarterData.StoreMode.MEMORY);
+        starterData.setOutputTimestamp(OUTPUT_TIMESTAMP);
+        return starterData;
+    }
+
+    private static String sha256(File file) throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(Files.readAllBytes(file.toPath())));
+    }
+}
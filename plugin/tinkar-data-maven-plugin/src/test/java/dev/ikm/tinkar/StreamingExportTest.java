@@ -0,0 +1,139 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.composer.Composer;
+import dev.ikm.tinkar.composer.assembler.ConceptAssembler;
+import dev.ikm.tinkar.data.compose.ChunkedSession;
+import dev.ikm.tinkar.data.compose.GenerationReport;
+import dev.ikm.tinkar.data.compose.ProtobufExportSink;
+import dev.ikm.tinkar.entity.EntityService;
+import dev.ikm.tinkar.entity.export.ExportEntitiesController;
+import dev.ikm.tinkar.terms.EntityProxy;
+import dev.ikm.tinkar.terms.State;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static dev.ikm.tinkar.terms.TinkarTerm.PRIMORDIAL_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.PRIMORDIAL_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.USER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Streams the starter concepts into an export while composing them in small chunks, then exports the same store
+ * the usual way and checks that the streamed export holds the final record of every exported entity and counts each
+ * entity once in its manifest.
+ */
+class StreamingExportTest {
+
+    private static final int CHUNK_SIZE = 25;
+
+    @TempDir
+    File tempDir;
+
+    @AfterEach
+    void stopStore() {
+        EphemeralStore.stop();
+    }
+
+    @Test
+    void streamedExportMatchesExportOfSameStore() throws Exception {
+        File streamedFile = new File(tempDir, "streamed-pb.zip");
+        File exportedFile = new File(tempDir, "exported-pb.zip");
+        EphemeralStore.start();
+
+        ProtobufExportSink sink = new ProtobufExportSink(streamedFile);
+        EntityService.get().beginLoadPhase();
+        try {
+            Composer composer = new Composer("Test Composer");
+            ChunkedSession chunkedSession = new ChunkedSession(composer, c -> c.open(State.ACTIVE,
+                    PrimitiveData.PREMUNDANE_TIME, USER, PRIMORDIAL_MODULE, PRIMORDIAL_PATH), CHUNK_SIZE);
+            chunkedSession.onCommit(sink::flush);
+            TinkarStarterConcepts.CONCEPTS.forEach(starterConcept -> chunkedSession.compose(starterConcept::compose));
+            // A new version of an entity that an earlier chunk already streamed.
+            EntityProxy.Concept first = TinkarStarterConcepts.CONCEPTS.getFirst().concept();
+            chunkedSession.compose(session -> session.compose((ConceptAssembler assembler) -> assembler.concept(first)));
+            chunkedSession.commit();
+        } finally {
+            EntityService.get().endLoadPhase();
+        }
+        sink.close();
+        new ExportEntitiesController().export(exportedFile).get();
+
+        Set<ByteBuffer> streamed = records(streamedFile);
+        Set<ByteBuffer> exported = records(exportedFile);
+        long entityCount = GenerationReport.storeEntityCount();
+        assertEquals(entityCount, exported.size());
+        assertEquals(entityCount, sink.entityCount());
+        assertTrue(sink.recordCount() > sink.entityCount());
+        assertEquals(0, sink.missingEntityCount());
+        assertEquals(Long.toString(entityCount), totalCount(streamedFile));
+        exported.removeAll(streamed);
+        assertTrue(exported.isEmpty(), exported.size() + " exported records are missing from the streamed export");
+    }
+
+    /**
+     * The Total-Count attribute of the export's manifest.
+     */
+    private static String totalCount(File exportFile) throws IOException {
+        try (ZipFile zipFile = new ZipFile(exportFile)) {
+            ZipEntry entry = zipFile.getEntry("META-INF/MANIFEST.MF");
+            assertNotNull(entry, exportFile.getName());
+            try (InputStream in = zipFile.getInputStream(entry)) {
+                return new Manifest(in).getMainAttributes().getValue("Total-Count");
+            }
+        }
+    }
+
+    /**
+     * The delimited protobuf records of the first zip entry, compared as raw bytes.
+     */
+    private static Set<ByteBuffer> records(File exportFile) throws IOException {
+        Set<ByteBuffer> records = new HashSet<>();
+        try (ZipInputStream zipIn = new ZipInputStream(new FileInputStream(exportFile))) {
+            assertNotNull(zipIn.getNextEntry(), exportFile.getName());
+            DataInputStream in = new DataInputStream(zipIn);
+            int length;
+            while ((length = readVarint(in)) >= 0) {
+                byte[] record = new byte[length];
+                in.readFully(record);
+                records.add(ByteBuffer.wrap(record));
+            }
+        }
+        return records;
+    }
+
+    private static int readVarint(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                if (shift == 0) {
+                    return -1;
+                }
+                throw new EOFException("Truncated record length");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed record length");
+    }
+}
@@ -0,0 +1,197 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.common.id.IntIdSet;
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.entity.EntityService;
+import dev.ikm.tinkar.entity.SemanticEntity;
+import dev.ikm.tinkar.entity.SemanticEntityVersion;
+import dev.ikm.tinkar.entity.graph.DiTreeEntity;
+import dev.ikm.tinkar.entity.graph.EntityVertex;
+import dev.ikm.tinkar.terms.ConceptFacade;
+import dev.ikm.tinkar.terms.EntityProxy;
+import dev.ikm.tinkar.terms.TinkarTerm;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Composes the starter concept manifest and compares the store against {@code starter-concepts.tsv}, the concepts
+ * the hand-written createConcepts method composed before the manifest replaced it.
+ */
+class TinkarStarterConceptsTest {
+
+    private static final String GOLDEN = "starter-concepts.tsv";
+
+    private static List<GoldenConcept> golden;
+
+    @BeforeAll
+    static void composeManifest() throws IOException {
+        golden = readGolden();
+        EphemeralStore.start();
+        EphemeralStore.composeStarterConcepts();
+    }
+
+    @AfterAll
+    static void stopStore() {
+        EphemeralStore.stop();
+    }
+
+    @Test
+    void manifestListsGoldenConceptsInOrder() {
+        List<String> expected = golden.stream().map(GoldenConcept::concept).map(TinkarStarterConceptsTest::uuid).toList();
+        List<String> actual = TinkarStarterConcepts.CONCEPTS.stream()
+                .map(starterConcept -> starterConcept.concept().asUuidArray()[0].toString())
+                .toList();
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void descriptionsMatchGolden() {
+        for (GoldenConcept concept : golden) {
+            int[] descriptionNids = semanticNids(concept.concept(), TinkarTerm.DESCRIPTION_PATTERN);
+            Set<String> texts = Arrays.stream(descriptionNids)
+                    .mapToObj(nid -> (String) fieldValues(nid).get(1))
+                    .collect(Collectors.toSet());
+            assertEquals(Set.of(text(concept.fullyQualifiedName()), text(concept.synonym()), text(concept.definition())),
+                    texts, concept.concept());
+            assertEquals(3, descriptionNids.length, concept.concept());
+        }
+    }
+
+    @Test
+    void dialectsMatchGolden() {
+        for (GoldenConcept concept : golden) {
+            int onConcept = semanticNids(concept.concept(), TinkarTerm.US_DIALECT_PATTERN).length;
+            assertEquals(concept.dialectOnConcept().size(), onConcept, concept.concept());
+            int onDescriptions = 0;
+            for (int descriptionNid : semanticNids(concept.concept(), TinkarTerm.DESCRIPTION_PATTERN)) {
+                onDescriptions += PrimitiveData.get()
+                        .semanticNidsForComponentOfPattern(descriptionNid, TinkarTerm.US_DIALECT_PATTERN.nid()).length;
+            }
+            assertEquals(3 - onConcept, onDescriptions, concept.concept());
+        }
+    }
+
+    @Test
+    void navigationMatchesGolden() {
+        for (GoldenConcept concept : golden) {
+            int[] navigationNids = semanticNids(concept.concept(), TinkarTerm.STATED_NAVIGATION_PATTERN);
+            assertEquals(1, navigationNids.length, concept.concept());
+            ImmutableList<Object> fields = fieldValues(navigationNids[0]);
+            assertEquals(nids(concept.children()), nids((IntIdSet) fields.get(0)), concept.concept() + " children");
+            assertEquals(nids(concept.parents()), nids((IntIdSet) fields.get(1)), concept.concept() + " parents");
+        }
+    }
+
+    @Test
+    void identifierAndBaseModelMatchGolden() {
+        for (GoldenConcept concept : golden) {
+            int[] identifierNids = semanticNids(concept.concept(), TinkarTerm.IDENTIFIER_PATTERN);
+            assertEquals(1, identifierNids.length, concept.concept());
+            assertEquals(uuid(concept.identifier()), fieldValues(identifierNids[0]).get(1), concept.concept());
+
+            int baseModel = semanticNids(concept.concept(), TinkarTerm.TINKAR_BASE_MODEL_COMPONENT_PATTERN).length;
+            assertEquals(concept.tinkarBaseModel() ? 1 : 0, baseModel, concept.concept());
+        }
+    }
+
+    @Test
+    void statedAxiomsMatchGolden() {
+        for (GoldenConcept concept : golden) {
+            int[] axiomNids = semanticNids(concept.concept(), TinkarTerm.EL_PLUS_PLUS_STATED_AXIOMS_PATTERN);
+            assertEquals(1, axiomNids.length, concept.concept());
+            DiTreeEntity axioms = (DiTreeEntity) fieldValues(axiomNids[0]).get(0);
+            Set<Integer> isA = new HashSet<>();
+            for (EntityVertex vertex : axioms.vertexMap()) {
+                if (vertex.getMeaningNid() == TinkarTerm.CONCEPT_REFERENCE.nid()) {
+                    ConceptFacade reference = vertex.propertyFast(TinkarTerm.CONCEPT_REFERENCE);
+                    isA.add(reference.nid());
+                }
+            }
+            assertEquals(nids(concept.isA()), isA, concept.concept());
+        }
+    }
+
+    private static List<GoldenConcept> readGolden() throws IOException {
+        List<GoldenConcept> concepts = new ArrayList<>();
+        try (InputStream in = TinkarStarterConceptsTest.class.getResourceAsStream(GOLDEN)) {
+            assertNotNull(in, GOLDEN);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", -1);
+                concepts.add(new GoldenConcept(columns[0], columns[1], columns[2], columns[3], names(columns[4]),
+                        names(columns[5]), names(columns[6]), columns[7], Boolean.parseBoolean(columns[8]),
+                        names(columns[9])));
+            }
+        }
+        return concepts;
+    }
+
+    private static List<String> names(String column) {
+        return column.isEmpty() ? List.of() : List.of(column.split(","));
+    }
+
+    private static EntityProxy.Concept proxy(String name) {
+        try {
+            return (EntityProxy.Concept) TinkarTerm.class.getField(name).get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No TinkarTerm concept " + name, e);
+        }
+    }
+
+    private static String uuid(String name) {
+        return proxy(name).asUuidArray()[0].toString();
+    }
+
+    private static String text(String golden) {
+        return golden.startsWith("@") ? proxy(golden.substring(1)).description() : golden;
+    }
+
+    private static int[] semanticNids(String concept, EntityProxy.Pattern pattern) {
+        return PrimitiveData.get().semanticNidsForComponentOfPattern(proxy(concept).nid(), pattern.nid());
+    }
+
+    private static ImmutableList<Object> fieldValues(int semanticNid) {
+        SemanticEntity<SemanticEntityVersion> semantic = EntityService.get().getEntityFast(semanticNid);
+        return semantic.versions().get(0).fieldValues();
+    }
+
+    private static Set<Integer> nids(List<String> names) {
+        Set<Integer> nids = new HashSet<>();
+        names.forEach(name -> nids.add(proxy(name).nid()));
+        return nids;
+    }
+
+    private static Set<Integer> nids(IntIdSet idSet) {
+        Set<Integer> nids = new HashSet<>();
+        for (int nid : idSet.toArray()) {
+            nids.add(nid);
+        }
+        return nids;
+    }
+
+    private record GoldenConcept(String concept, String fullyQualifiedName, String synonym, String definition,
+                                 List<String> parents, List<String> children, List<String> isA, String identifier,
+                                 boolean tinkarBaseModel, List<String> dialectOnConcept) {
+    }
+}
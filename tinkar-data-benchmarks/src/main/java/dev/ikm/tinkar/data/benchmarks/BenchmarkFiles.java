@@ -0,0 +1,20 @@
+package dev.ikm.tinkar.data.benchmarks;
+
+import dev.ikm.tinkar.common.util.io.FileUtil;
+
+import java.io.File;
+
+/**
+ * File helpers for benchmark work directories.
+ */
+final class BenchmarkFiles {
+
+    private BenchmarkFiles() {
+    }
+
+    static void delete(File directory) {
+        if (directory != null) {
+            FileUtil.recursiveDelete(directory);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package dev.ikm.tinkar.data.benchmarks;
+
+import dev.ikm.tinkar.common.service.CachingService;
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.common.service.ServiceKeys;
+import dev.ikm.tinkar.common.service.ServiceProperties;
+import dev.ikm.tinkar.common.util.io.FileUtil;
+
+import java.io.File;
+
+/**
+ * Starts and stops the datastore a benchmark runs against.
+ */
+final class BenchmarkStore {
+
+    private BenchmarkStore() {
+    }
+
+    static void startEphemeral() {
+        CachingService.clearAll();
+        PrimitiveData.selectControllerByName("Clean Ephemeral Store");
+        PrimitiveData.start();
+    }
+
+    /**
+     * Starts an empty SpinedArrayStore in {@code datastore}, deleting whatever was there.
+     */
+    static void startEmptySpinedArray(File datastore) {
+        FileUtil.recursiveDelete(datastore);
+        startSpinedArray(datastore);
+    }
+
+    static void startSpinedArray(File datastore) {
+        CachingService.clearAll();
+        ServiceProperties.set(ServiceKeys.DATA_STORE_ROOT, datastore);
+        PrimitiveData.selectControllerByName("Open SpinedArrayStore");
+        PrimitiveData.start();
+    }
+
+    static void stop() {
+        PrimitiveData.stop();
+    }
+}
@@ -0,0 +1,187 @@
+package dev.ikm.tinkar.data.benchmarks;
+
+import dev.ikm.tinkar.common.service.CachingService;
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.common.service.ServiceKeys;
+import dev.ikm.tinkar.common.service.ServiceProperties;
+import dev.ikm.tinkar.data.compose.JsonWriter;
+import dev.ikm.tinkar.entity.Entity;
+import dev.ikm.tinkar.entity.EntityService;
+import dev.ikm.tinkar.terms.TinkarTerm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Times the boot sequence services run against an existing starter datastore, each step on its own, in a fresh JVM
+ * per run: clearing caches, setting the data store root, selecting the SpinedArrayStore controller (which discovers
+ * the controllers through the ServiceLoader), starting PrimitiveData (provider wiring and opening the store) and
+ * reading the first entity.
+ * <p>
+ * {@code java -cp tinkar-data-benchmarks/target/benchmarks.jar dev.ikm.tinkar.data.benchmarks.ColdStart
+ * [--forks N] [--datastore dir] [--report file.json]}
+ * <p>
+ * The datastore defaults to the one the tinkar-starter-data build leaves behind; it is copied first so the runs do
+ * not modify it.
+ */
+public class ColdStart {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ColdStart.class.getSimpleName());
+
+    private static final String CHILD = "--child";
+    private static final String RESULT_PREFIX = "COLD_START ";
+
+    public static void main(String[] args) throws Exception {
+        int forks = 5;
+        File datastore = new File("tinkar-starter-data/target/tinkar-starter-data");
+        File reportFile = new File("tinkar-data-benchmarks/target/cold-start.json");
+        boolean child = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--forks" -> forks = Integer.parseInt(args[++i]);
+                case "--datastore" -> datastore = new File(args[++i]);
+                case "--report" -> reportFile = new File(args[++i]);
+                case CHILD -> child = true;
+                default -> throw new IllegalArgumentException("Unknown argument " + args[i]);
+            }
+        }
+        if (child) {
+            StringBuilder line = new StringBuilder(RESULT_PREFIX);
+            measure(datastore).forEach((name, value) -> line.append(name).append('=').append(value).append(' '));
+            System.out.println(line.toString().trim());
+            return;
+        }
+        if (!datastore.isDirectory()) {
+            throw new IllegalArgumentException(datastore.getAbsolutePath() + " does not exist; build tinkar-starter-data with storeMode disk first.");
+        }
+
+        Path copy = Files.createTempDirectory("tinkar-cold-start");
+        try {
+            copyDirectory(datastore.toPath(), copy);
+            List<Map<String, Number>> results = new ArrayList<>();
+            for (int run = 1; run <= forks; run++) {
+                Map<String, Number> result = runChild(copy.toFile());
+                LOG.info("Run {}: {}", run, result);
+                results.add(result);
+            }
+            writeReport(reportFile, results);
+        } finally {
+            BenchmarkFiles.delete(copy.toFile());
+        }
+    }
+
+    private static Map<String, Number> measure(File datastore) {
+        long jvmUptime = ManagementFactory.getRuntimeMXBean().getUptime();
+
+        long start = System.nanoTime();
+        CachingService.clearAll();
+        long cachesCleared = System.nanoTime();
+        ServiceProperties.set(ServiceKeys.DATA_STORE_ROOT, datastore);
+        long rootSet = System.nanoTime();
+        PrimitiveData.selectControllerByName("Open SpinedArrayStore");
+        long controllerSelected = System.nanoTime();
+        PrimitiveData.start();
+        long started = System.nanoTime();
+        Entity<?> rootVertex = EntityService.get().getEntityFast(TinkarTerm.ROOT_VERTEX.nid());
+        long firstRead = System.nanoTime();
+        PrimitiveData.stop();
+
+        if (rootVertex == null) {
+            throw new IllegalStateException("Root vertex not found in " + datastore.getAbsolutePath());
+        }
+        Map<String, Number> result = new LinkedHashMap<>();
+        result.put("jvmUptimeMillis", jvmUptime);
+        result.put("clearCachesMillis", millis(start, cachesCleared));
+        result.put("setDataStoreRootMillis", millis(cachesCleared, rootSet));
+        result.put("controllerDiscoveryMillis", millis(rootSet, controllerSelected));
+        result.put("storeStartMillis", millis(controllerSelected, started));
+        result.put("firstEntityReadMillis", millis(started, firstRead));
+        result.put("totalMillis", millis(start, firstRead));
+        return result;
+    }
+
+    private static double millis(long fromNanos, long toNanos) {
+        return (toNanos - fromNanos) / 1_000_000d;
+    }
+
+    /**
+     * Runs {@link #measure} in a fresh JVM, which prints its result as {@code name=value} pairs on one line.
+     */
+    private static Map<String, Number> runChild(File datastore) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                ColdStart.class.getName(), CHILD, "--datastore", datastore.getAbsolutePath())
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        String result = null;
+        try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = out.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    result = line.substring(RESULT_PREFIX.length());
+                }
+            }
+        }
+        int exitCode = process.waitFor();
+        if (exitCode != 0 || result == null) {
+            throw new IllegalStateException("Cold start run failed with exit code " + exitCode);
+        }
+        Map<String, Number> values = new LinkedHashMap<>();
+        for (String pair : result.split(" ")) {
+            int separator = pair.indexOf('=');
+            String value = pair.substring(separator + 1);
+            values.put(pair.substring(0, separator),
+                    value.indexOf('.') >= 0 ? (Number) Double.parseDouble(value) : (Number) Long.parseLong(value));
+        }
+        return values;
+    }
+
+    private static void copyDirectory(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Path destination = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(destination);
+                } else {
+                    Files.copy(path, destination, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
+    private static void writeReport(File reportFile, List<Map<String, Number>> results) throws IOException {
+        try (JsonWriter json = JsonWriter.create(reportFile)) {
+            json.beginObject()
+                    .property("javaVersion", Runtime.version().toString())
+                    .name("runs").beginArray();
+            for (Map<String, Number> result : results) {
+                json.beginObject();
+                for (Map.Entry<String, Number> entry : result.entrySet()) {
+                    if (entry.getValue() instanceof Double value) {
+                        json.property(entry.getKey(), value);
+                    } else {
+                        json.property(entry.getKey(), entry.getValue().longValue());
+                    }
+                }
+                json.endObject();
+            }
+            json.endArray().endObject();
+        }
+        LOG.info("Wrote cold start report to {}", reportFile.getAbsolutePath());
+    }
+}
@@ -0,0 +1,37 @@
+package dev.ikm.tinkar.data.benchmarks;
+
+import dev.ikm.tinkar.ScaleOutData;
+import dev.ikm.tinkar.TinkarExampleData;
+import dev.ikm.tinkar.data.compose.GenerationReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+
+/**
+ * Fills the running datastore with the example data scaled out with {@link ScaleOutData} to about a target number of
+ * components.
+ */
+final class ExampleDataFill {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExampleDataFill.class.getSimpleName());
+
+    private ExampleDataFill() {
+    }
+
+    /**
+     * @return the number of entities in the datastore afterwards
+     */
+    static long fill(File datastore, long components) {
+        long start = System.currentTimeMillis();
+        long conceptCount = components / new ScaleOutData(0).componentsPerConcept();
+        TinkarExampleData exampleData = new TinkarExampleData(new String[]{datastore.getPath(), new File(datastore, "unused.zip").getPath()});
+        exampleData.addWorkload(new ScaleOutData(conceptCount));
+        exampleData.transform();
+
+        long entityCount = GenerationReport.storeEntityCount();
+        LOG.info("Filled datastore with {} entities (target {}) in {} ms", entityCount, components,
+                System.currentTimeMillis() - start);
+        return entityCount;
+    }
+}
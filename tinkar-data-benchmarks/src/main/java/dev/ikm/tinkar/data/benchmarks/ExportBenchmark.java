@@ -0,0 +1,94 @@
+package dev.ikm.tinkar.data.benchmarks;
+
+import dev.ikm.tinkar.entity.export.ExportEntitiesController;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link ExportEntitiesController#export(File)} on a SpinedArrayStore filled with example data at
+ * several sizes. Besides exports per second, every result reports megabytes and entities exported per second and how
+ * far the resident set size of the benchmark JVM peaked above its size at the start of the iteration, so the filled
+ * store does not mask what the export itself needs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ExportBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public long components;
+
+    private File workDirectory;
+    private File exportFile;
+    private long entityCount;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class ExportCounters {
+        public double megabytes;
+        public long entities;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+            entities = 0;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class MemoryCounters {
+        public double peakRssGrowthMegabytes;
+        private long rssBefore;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            // Without clear_refs the high-water mark cannot be reset, so growth is measured from the mark the fill left.
+            rssBefore = ProcessMemory.resetPeakRss() ? ProcessMemory.rssBytes() : ProcessMemory.peakRssBytes();
+            peakRssGrowthMegabytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void fillStore() throws IOException {
+        workDirectory = Files.createTempDirectory("tinkar-export-benchmark").toFile();
+        exportFile = new File(workDirectory, "export-benchmark-pb.zip");
+        BenchmarkStore.startEmptySpinedArray(new File(workDirectory, "datastore"));
+        entityCount = ExampleDataFill.fill(new File(workDirectory, "datastore"), components);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStore() {
+        BenchmarkStore.stop();
+        BenchmarkFiles.delete(workDirectory);
+    }
+
+    @Benchmark
+    public void export(ExportCounters counters, MemoryCounters memory) throws ExecutionException, InterruptedException {
+        new ExportEntitiesController().export(exportFile).get();
+        counters.megabytes += exportFile.length() / (1024d * 1024d);
+        counters.entities += entityCount;
+        memory.peakRssGrowthMegabytes = Math.max(0, ProcessMemory.peakRssBytes() - memory.rssBefore) / (1024d * 1024d);
+    }
+}
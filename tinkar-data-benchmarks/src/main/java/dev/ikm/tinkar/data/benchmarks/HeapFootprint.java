@@ -0,0 +1,126 @@
+package dev.ikm.tinkar.data.benchmarks;
+
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.data.compose.JsonWriter;
+import dev.ikm.tinkar.entity.ConceptEntity;
+import dev.ikm.tinkar.entity.Entity;
+import dev.ikm.tinkar.entity.EntityService;
+import dev.ikm.tinkar.entity.PatternEntity;
+import dev.ikm.tinkar.entity.SemanticEntity;
+import dev.ikm.tinkar.entity.StampEntity;
+import dev.ikm.tinkar.entity.load.LoadEntitiesFromProtobufFile;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Loads a protobuf export into the in-memory ephemeral store (not the SpinedArrayStore applications open) and reports
+ * what it retains on the heap, by entity type and by pattern for semantics. The ephemeral store keeps each entity as
+ * its serialized byte array, so the retained size of an entity is that array and its reference, as sized by JOL. The
+ * decoded entity graph is reported separately: it is built on read and only held as long as a cache keeps it. The
+ * report also has the growth of heap in use after a full GC from before the load to after it, which includes the
+ * store's own indexes and caches.
+ * <p>
+ * {@code java -cp tinkar-data-benchmarks/target/benchmarks.jar dev.ikm.tinkar.data.benchmarks.HeapFootprint
+ * [export.zip] [report.json]}
+ */
+public class HeapFootprint {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HeapFootprint.class.getSimpleName());
+
+    private static class Footprint {
+        private long count;
+        private long retainedBytes;
+        private long decodedBytes;
+
+        private void add(long retainedBytes, long decodedBytes) {
+            count++;
+            this.retainedBytes += retainedBytes;
+            this.decodedBytes += decodedBytes;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        File exportFile = new File(args.length > 0 ? args[0] : "tinkar-starter-data/target/tinkar-export-starter-data-pb.zip");
+        File reportFile = new File(args.length > 1 ? args[1] : "tinkar-data-benchmarks/target/heap-footprint.json");
+
+        BenchmarkStore.startEphemeral();
+        try {
+            long heapBefore = usedHeapAfterGc();
+            new LoadEntitiesFromProtobufFile(exportFile).call();
+            long heapGrowth = usedHeapAfterGc() - heapBefore;
+
+            Map<String, Footprint> byType = new TreeMap<>();
+            Map<String, Footprint> byPattern = new TreeMap<>();
+            PrimitiveData.get().forEach((bytes, nid) -> {
+                Entity<?> entity = EntityService.get().getEntityFast(nid);
+                long retainedBytes = VM.current().sizeOfField("oop") + VM.current().sizeOf(bytes);
+                long decodedBytes = GraphLayout.parseInstance(entity).totalSize();
+                byType.computeIfAbsent(typeName(entity), name -> new Footprint()).add(retainedBytes, decodedBytes);
+                if (entity instanceof SemanticEntity<?> semantic) {
+                    byPattern.computeIfAbsent(PrimitiveData.text(semantic.patternNid()), name -> new Footprint())
+                            .add(retainedBytes, decodedBytes);
+                }
+            });
+
+            writeReport(reportFile, exportFile, heapGrowth, byType, byPattern);
+        } finally {
+            BenchmarkStore.stop();
+        }
+    }
+
+    private static String typeName(Entity<?> entity) {
+        return switch (entity) {
+            case ConceptEntity<?> concept -> "concept";
+            case PatternEntity<?> pattern -> "pattern";
+            case SemanticEntity<?> semantic -> "semantic";
+            case StampEntity<?> stamp -> "stamp";
+            default -> entity.getClass().getSimpleName();
+        };
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static void writeReport(File reportFile, File exportFile, long heapGrowth, Map<String, Footprint> byType,
+                                     Map<String, Footprint> byPattern) throws IOException {
+        long retainedBytes = byType.values().stream().mapToLong(footprint -> footprint.retainedBytes).sum();
+        try (JsonWriter json = JsonWriter.create(reportFile)) {
+            json.beginObject()
+                    .property("export", exportFile.getName())
+                    .property("store", "ephemeral")
+                    .property("javaVersion", Runtime.version().toString())
+                    .property("retainedBytes", retainedBytes)
+                    .property("heapGrowthAfterGcBytes", heapGrowth);
+            writeFootprints(json.name("byType"), byType);
+            writeFootprints(json.name("byPattern"), byPattern);
+            json.endObject();
+        }
+        LOG.info("Retained {} bytes of entities, heap grew {} bytes; by type:", retainedBytes, heapGrowth);
+        byType.forEach((name, footprint) -> LOG.info("  {}: {} entities, {} retained bytes, {} decoded bytes",
+                name, footprint.count, footprint.retainedBytes, footprint.decodedBytes));
+        LOG.info("Wrote heap footprint report to {}", reportFile.getAbsolutePath());
+    }
+
+    private static void writeFootprints(JsonWriter json, Map<String, Footprint> footprints) throws IOException {
+        json.beginObject();
+        for (Map.Entry<String, Footprint> entry : footprints.entrySet()) {
+            Footprint footprint = entry.getValue();
+            json.name(entry.getKey()).beginObject()
+                    .property("count", footprint.count)
+                    .property("retainedBytes", footprint.retainedBytes)
+                    .property("decodedBytes", footprint.decodedBytes)
+                    .endObject();
+        }
+        json.endObject();
+    }
+}
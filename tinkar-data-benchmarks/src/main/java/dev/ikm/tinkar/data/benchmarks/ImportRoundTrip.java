@@ -0,0 +1,128 @@
+package dev.ikm.tinkar.data.benchmarks;
+
+import dev.ikm.tinkar.data.compose.GenerationReport;
+import dev.ikm.tinkar.data.compose.JsonWriter;
+import dev.ikm.tinkar.data.compose.PrecompiledEntities;
+import dev.ikm.tinkar.entity.load.LoadEntitiesFromProtobufFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Imports protobuf export zips, or precompiled entity files ({@code .bin}), into an empty SpinedArrayStore, the way
+ * applications load the starter data on first start, and records wall time, entities per second, GC pauses and the
+ * size of the resulting store on disk. Every run starts from an empty store; the first run of a fresh JVM is the cold
+ * load number.
+ * <p>
+ * {@code java -cp tinkar-data-benchmarks/target/benchmarks.jar dev.ikm.tinkar.data.benchmarks.ImportRoundTrip
+ * [--runs N] [--report file.json] [export.zip | entities.bin ...]}
+ * <p>
+ * Without files, imports the starter data export and its precompiled entities built by the tinkar-starter-data module.
+ */
+public class ImportRoundTrip {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImportRoundTrip.class.getSimpleName());
+
+    static final File STARTER_EXPORT = new File("tinkar-starter-data/target/tinkar-export-starter-data-pb.zip");
+    static final File STARTER_ENTITIES = new File("tinkar-starter-data/target/tinkar-starter-data-entities.bin");
+
+    record Run(String file, int run, long wallMillis, long entities, double entitiesPerSecond, long gcPauses,
+               long gcPauseMillis, long maxGcPauseMillis, long storeBytes) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = 3;
+        File reportFile = new File("tinkar-data-benchmarks/target/import-round-trip.json");
+        List<File> exportFiles = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--runs" -> runs = Integer.parseInt(args[++i]);
+                case "--report" -> reportFile = new File(args[++i]);
+                default -> exportFiles.add(new File(args[i]));
+            }
+        }
+        if (exportFiles.isEmpty()) {
+            exportFiles.add(STARTER_EXPORT);
+            exportFiles.add(STARTER_ENTITIES);
+        }
+
+        List<Run> results = new ArrayList<>();
+        File datastore = Files.createTempDirectory("tinkar-import-round-trip").toFile();
+        try {
+            for (File exportFile : exportFiles) {
+                if (!exportFile.isFile()) {
+                    throw new IllegalArgumentException(exportFile.getAbsolutePath() + " does not exist; build it first.");
+                }
+                for (int run = 1; run <= runs; run++) {
+                    results.add(importOnce(exportFile, datastore, run));
+                }
+            }
+        } finally {
+            BenchmarkFiles.delete(datastore);
+        }
+        writeReport(reportFile, results);
+    }
+
+    private static Run importOnce(File exportFile, File datastore, int run) throws Exception {
+        BenchmarkStore.startEmptySpinedArray(datastore);
+        try (GcPauses gcPauses = new GcPauses()) {
+            long start = System.nanoTime();
+            if (exportFile.getName().endsWith(".bin")) {
+                try (InputStream in = new FileInputStream(exportFile)) {
+                    PrecompiledEntities.load(in);
+                }
+            } else {
+                new LoadEntitiesFromProtobufFile(exportFile).call();
+            }
+            long wallNanos = System.nanoTime() - start;
+            long entities = GenerationReport.storeEntityCount();
+            BenchmarkStore.stop();
+
+            Run result = new Run(exportFile.getName(), run, wallNanos / 1_000_000, entities,
+                    entities * 1_000_000_000d / wallNanos, gcPauses.count(), gcPauses.totalMillis(),
+                    gcPauses.maxMillis(), sizeOnDisk(datastore));
+            LOG.info("{} run {}: {} ms, {} entities, {} entities/s, {} GC pauses ({} ms, max {} ms), {} bytes on disk",
+                    result.file(), run, result.wallMillis(), entities, Math.round(result.entitiesPerSecond()),
+                    result.gcPauses(), result.gcPauseMillis(), result.maxGcPauseMillis(), result.storeBytes());
+            return result;
+        }
+    }
+
+    private static long sizeOnDisk(File directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            return paths.filter(Files::isRegularFile).mapToLong(path -> path.toFile().length()).sum();
+        }
+    }
+
+    private static void writeReport(File reportFile, List<Run> results) throws IOException {
+        try (JsonWriter json = JsonWriter.create(reportFile)) {
+            json.beginObject()
+                    .property("javaVersion", Runtime.version().toString())
+                    .name("runs").beginArray();
+            for (Run run : results) {
+                json.beginObject()
+                        .property("file", run.file())
+                        .property("run", run.run())
+                        .property("wallMillis", run.wallMillis())
+                        .property("entities", run.entities())
+                        .property("entitiesPerSecond", run.entitiesPerSecond())
+                        .property("gcPauses", run.gcPauses())
+                        .property("gcPauseMillis", run.gcPauseMillis())
+                        .property("maxGcPauseMillis", run.maxGcPauseMillis())
+                        .property("storeBytes", run.storeBytes())
+                        .endObject();
+            }
+            json.endArray().endObject();
+        }
+        LOG.info("Wrote import round trip report to {}", reportFile.getAbsolutePath());
+    }
+}
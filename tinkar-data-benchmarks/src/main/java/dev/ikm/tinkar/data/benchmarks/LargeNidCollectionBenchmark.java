@@ -0,0 +1,141 @@
+package dev.ikm.tinkar.data.benchmarks;
+
+import dev.ikm.tinkar.LargeNidCollectionData;
+import dev.ikm.tinkar.TinkarExampleData;
+import dev.ikm.tinkar.composer.Composer;
+import dev.ikm.tinkar.composer.Session;
+import dev.ikm.tinkar.entity.Entity;
+import dev.ikm.tinkar.entity.EntityRecordFactory;
+import dev.ikm.tinkar.entity.EntityService;
+import dev.ikm.tinkar.entity.export.ExportEntitiesController;
+import dev.ikm.tinkar.entity.load.LoadEntitiesFromProtobufFile;
+import dev.ikm.tinkar.entity.transform.EntityToTinkarSchemaTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.USER;
+
+/**
+ * Cost of Pattern 2 semantics with large component sets and lists, shaped like value set semantics: composing and
+ * committing one, serializing one to its datastore record and to protobuf, and exporting and re-importing an
+ * ephemeral store holding the example data plus {@link LargeNidCollectionData}. Each re-import loads the export into
+ * an empty store, and each iteration of compose and commit starts from the store reloaded from that export, so neither
+ * measures a store grown by earlier invocations.
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class LargeNidCollectionBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int collectionSize;
+
+    @Param({"10"})
+    public long semantics;
+
+    private File workDirectory;
+    private File exportFile;
+    private File reimportFile;
+    private LargeNidCollectionData workload;
+    private Entity<?> semantic;
+
+    /**
+     * The example data store reloaded from the export, with a new composer, before each iteration.
+     */
+    @org.openjdk.jmh.annotations.State(Scope.Benchmark)
+    public static class ReloadedStore {
+        private Composer composer;
+        private int[] memberNids;
+        private long nextSemantic;
+
+        @Setup(Level.Iteration)
+        public void reload(LargeNidCollectionBenchmark benchmark) throws Exception {
+            BenchmarkStore.stop();
+            BenchmarkStore.startEphemeral();
+            new LoadEntitiesFromProtobufFile(benchmark.reimportFile).call();
+            composer = new Composer("Large Collection Benchmark Composer");
+            memberNids = benchmark.workload.memberNids();
+            nextSemantic = benchmark.semantics;
+        }
+    }
+
+    /**
+     * An empty ephemeral store before each invocation.
+     */
+    @org.openjdk.jmh.annotations.State(Scope.Benchmark)
+    public static class EmptyStore {
+
+        @Setup(Level.Invocation)
+        public void clear() {
+            BenchmarkStore.stop();
+            BenchmarkStore.startEphemeral();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void fillStore() throws Exception {
+        workDirectory = Files.createTempDirectory("tinkar-large-collection-benchmark").toFile();
+        exportFile = new File(workDirectory, "large-collection-export-pb.zip");
+        reimportFile = new File(workDirectory, "large-collection-reimport-pb.zip");
+        BenchmarkStore.startEphemeral();
+        workload = new LargeNidCollectionData(semantics, collectionSize);
+        TinkarExampleData exampleData = new TinkarExampleData(new String[]{workDirectory.getPath(), exportFile.getPath()});
+        exampleData.addWorkload(workload);
+        exampleData.transform();
+        new ExportEntitiesController().export(reimportFile).get();
+        semantic = EntityService.get().getEntityFast(LargeNidCollectionData.semantic(0).nid());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStore() {
+        BenchmarkStore.stop();
+        BenchmarkFiles.delete(workDirectory);
+    }
+
+    @Benchmark
+    public void composeAndCommit(ReloadedStore store) {
+        Session session = store.composer.open(dev.ikm.tinkar.terms.State.ACTIVE, System.currentTimeMillis(), USER,
+                DEVELOPMENT_MODULE, DEVELOPMENT_PATH);
+        LargeNidCollectionData.composeSemantic(session, store.nextSemantic++, store.memberNids);
+        store.composer.commitSession(session);
+    }
+
+    @Benchmark
+    public byte[] serializeRecord() {
+        return EntityRecordFactory.getBytes(semantic);
+    }
+
+    @Benchmark
+    public byte[] serializeProtobuf() {
+        return EntityToTinkarSchemaTransformer.getInstance().transform(semantic).toByteArray();
+    }
+
+    @Benchmark
+    public void export() throws Exception {
+        new ExportEntitiesController().export(exportFile).get();
+    }
+
+    @Benchmark
+    public void reimport(EmptyStore store) throws Exception {
+        new LoadEntitiesFromProtobufFile(reimportFile).call();
+    }
+}
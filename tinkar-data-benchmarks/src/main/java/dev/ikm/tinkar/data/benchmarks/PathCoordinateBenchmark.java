@@ -0,0 +1,97 @@
+package dev.ikm.tinkar.data.benchmarks;
+
+import dev.ikm.tinkar.BranchingData;
+import dev.ikm.tinkar.TinkarExampleData;
+import dev.ikm.tinkar.coordinate.stamp.StampCoordinateRecord;
+import dev.ikm.tinkar.coordinate.stamp.StampPositionRecord;
+import dev.ikm.tinkar.coordinate.stamp.StateSet;
+import dev.ikm.tinkar.coordinate.stamp.calculator.StampCalculator;
+import dev.ikm.tinkar.coordinate.stamp.calculator.StampCalculatorWithCache;
+import dev.ikm.tinkar.entity.load.LoadEntitiesFromProtobufFile;
+import dev.ikm.tinkar.terms.EntityProxy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.MASTER_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.SANDBOX_PATH;
+
+/**
+ * Time to resolve the latest version of every {@link BranchingData} semantic under the latest position on the
+ * sandbox, development or master path. The datastore holds the starter data, so the paths and their origins are
+ * defined, plus the branching workload, whose semantics have divergent versions on each path. Run from the repository
+ * root after building the starter data, or point {@code tinkar.starterData} at a starter data export.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class PathCoordinateBenchmark {
+
+    @Param({"10000", "100000"})
+    public long concepts;
+
+    @Param({"SANDBOX", "DEVELOPMENT", "MASTER"})
+    public String path;
+
+    private File workDirectory;
+    private int[] semanticNids;
+    private StampCalculator calculator;
+
+    @Setup(Level.Trial)
+    public void fillStore() throws Exception {
+        File starterData = new File(System.getProperty("tinkar.starterData", ImportRoundTrip.STARTER_EXPORT.getPath()));
+        if (!starterData.isFile()) {
+            throw new IllegalStateException(starterData.getAbsolutePath() + " does not exist; build it first.");
+        }
+        workDirectory = Files.createTempDirectory("tinkar-path-coordinate-benchmark").toFile();
+        File datastore = new File(workDirectory, "datastore");
+        BenchmarkStore.startEmptySpinedArray(datastore);
+        new LoadEntitiesFromProtobufFile(starterData).call();
+        TinkarExampleData exampleData = new TinkarExampleData(new String[]{datastore.getPath(), new File(workDirectory, "unused.zip").getPath()});
+        exampleData.addWorkload(new BranchingData(concepts));
+        exampleData.transform();
+
+        semanticNids = LongStream.range(0, concepts).mapToInt(i -> BranchingData.semantic(i).nid()).toArray();
+        EntityProxy.Concept pathConcept = switch (path) {
+            case "SANDBOX" -> SANDBOX_PATH;
+            case "DEVELOPMENT" -> DEVELOPMENT_PATH;
+            case "MASTER" -> MASTER_PATH;
+            default -> throw new IllegalArgumentException("Unknown path " + path);
+        };
+        calculator = StampCalculatorWithCache.getCalculator(StampCoordinateRecord.make(StateSet.ACTIVE_AND_INACTIVE,
+                StampPositionRecord.make(Long.MAX_VALUE, pathConcept.nid())));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStore() {
+        BenchmarkStore.stop();
+        BenchmarkFiles.delete(workDirectory);
+    }
+
+    @Benchmark
+    public void latestVersions(Blackhole blackhole) {
+        for (int nid : semanticNids) {
+            blackhole.consume(calculator.latest(nid));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package dev.ikm.tinkar.data.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Current and peak resident set size of the benchmark JVM, read from {@code /proc/self/status}. Returns zero where
+ * that is not available.
+ */
+final class ProcessMemory {
+
+    private static final Path STATUS = Path.of("/proc/self/status");
+    private static final Path CLEAR_REFS = Path.of("/proc/self/clear_refs");
+
+    private ProcessMemory() {
+    }
+
+    static long rssBytes() {
+        return statusKilobytes("VmRSS:") * 1024;
+    }
+
+    /**
+     * The high-water mark of the resident set size since the process started or since {@link #resetPeakRss()}.
+     */
+    static long peakRssBytes() {
+        return statusKilobytes("VmHWM:") * 1024;
+    }
+
+    /**
+     * Resets the high-water mark to the current resident set size by writing 5 to {@code /proc/self/clear_refs}.
+     * Returns false where the kernel does not allow it.
+     */
+    static boolean resetPeakRss() {
+        try {
+            Files.writeString(CLEAR_REFS, "5");
+            return true;
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            return false;
+        }
+    }
+
+    private static long statusKilobytes(String key) {
+        if (!Files.isReadable(STATUS)) {
+            return 0;
+        }
+        try {
+            for (String line : Files.readAllLines(STATUS)) {
+                if (line.startsWith(key)) {
+                    return Long.parseLong(line.substring(key.length()).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            return 0;
+        }
+        return 0;
+    }
+}
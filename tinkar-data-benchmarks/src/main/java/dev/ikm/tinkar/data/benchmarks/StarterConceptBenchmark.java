@@ -0,0 +1,103 @@
+package dev.ikm.tinkar.data.benchmarks;
+
+import dev.ikm.tinkar.StarterConcept;
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.composer.Composer;
+import dev.ikm.tinkar.composer.Session;
+import dev.ikm.tinkar.entity.EntityService;
+import dev.ikm.tinkar.terms.EntityProxy;
+import dev.ikm.tinkar.terms.State;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static dev.ikm.tinkar.terms.TinkarTerm.PRIMORDIAL_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.PRIMORDIAL_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.TINKAR_MODEL_CONCEPT;
+import static dev.ikm.tinkar.terms.TinkarTerm.USER;
+
+/**
+ * Throughput of the starter concept bundle: a concept with a fully qualified name, synonym and definition (each with
+ * a US dialect), an identifier, stated navigation, stated axiom and Tinkar base model membership, composed exactly as
+ * {@link StarterConcept#compose(Session)} does for the starter data.
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StarterConceptBenchmark {
+
+    private static final long UUID_MSB = 0x5354_4152_5445_5200L;
+
+    private Composer composer;
+    private Session iterationSession;
+    private long conceptCount;
+
+    @Setup(Level.Trial)
+    public void startStore() {
+        BenchmarkStore.startEphemeral();
+        EntityService.get().beginLoadPhase();
+        composer = new Composer("Starter Concept Benchmark Composer");
+    }
+
+    @Setup(Level.Iteration)
+    public void openIterationSession() {
+        iterationSession = openSession();
+    }
+
+    @TearDown(Level.Iteration)
+    public void commitIterationSession() {
+        composer.commitSession(iterationSession);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStore() {
+        EntityService.get().endLoadPhase();
+        BenchmarkStore.stop();
+    }
+
+    /**
+     * Composes one bundle into a session that is committed at the end of the iteration.
+     */
+    @Benchmark
+    public void compose() {
+        nextConcept().compose(iterationSession);
+    }
+
+    /**
+     * Composes one bundle into its own session and commits it.
+     */
+    @Benchmark
+    public void composeAndCommit() {
+        Session session = openSession();
+        nextConcept().compose(session);
+        composer.commitSession(session);
+    }
+
+    private Session openSession() {
+        return composer.open(State.ACTIVE, PrimitiveData.PREMUNDANE_TIME, USER, PRIMORDIAL_MODULE, PRIMORDIAL_PATH);
+    }
+
+    private StarterConcept nextConcept() {
+        long n = conceptCount++;
+        EntityProxy.Concept concept = EntityProxy.Concept.make("Benchmark Concept " + n, new UUID(UUID_MSB, n));
+        return StarterConcept.concept(concept,
+                        "Benchmark Concept " + n,
+                        "Benchmark concept " + n,
+                        "A concept composed by the starter concept benchmark")
+                .parents(TINKAR_MODEL_CONCEPT);
+    }
+}
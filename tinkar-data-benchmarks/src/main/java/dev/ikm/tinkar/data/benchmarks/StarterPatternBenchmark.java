@@ -0,0 +1,114 @@
+package dev.ikm.tinkar.data.benchmarks;
+
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.composer.Composer;
+import dev.ikm.tinkar.composer.Session;
+import dev.ikm.tinkar.composer.assembler.PatternAssembler;
+import dev.ikm.tinkar.composer.template.Definition;
+import dev.ikm.tinkar.composer.template.FullyQualifiedName;
+import dev.ikm.tinkar.composer.template.Synonym;
+import dev.ikm.tinkar.composer.template.TinkarBaseModel;
+import dev.ikm.tinkar.entity.EntityService;
+import dev.ikm.tinkar.terms.EntityProxy;
+import dev.ikm.tinkar.terms.State;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static dev.ikm.tinkar.terms.TinkarTerm.COMPONENT_FIELD;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_CASE_SIGNIFICANCE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_NOT_CASE_SENSITIVE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_SEMANTIC;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_TYPE;
+import static dev.ikm.tinkar.terms.TinkarTerm.ENGLISH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.LANGUAGE_CONCEPT_NID_FOR_DESCRIPTION;
+import static dev.ikm.tinkar.terms.TinkarTerm.PRIMORDIAL_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.PRIMORDIAL_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.STRING;
+import static dev.ikm.tinkar.terms.TinkarTerm.TEXT_FOR_DESCRIPTION;
+import static dev.ikm.tinkar.terms.TinkarTerm.USER;
+
+/**
+ * Throughput of composing and committing a pattern the way the starter data's createPatterns does: a four field
+ * pattern shaped like the description pattern with a fully qualified name, synonym, definition and Tinkar base model
+ * membership. Every invocation composes a pattern with a new public id.
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StarterPatternBenchmark {
+
+    private static final long UUID_MSB = 0x5041_5454_4552_4E00L;
+
+    private Composer composer;
+    private long patternCount;
+
+    @Setup(Level.Trial)
+    public void startStore() {
+        BenchmarkStore.startEphemeral();
+        EntityService.get().beginLoadPhase();
+        composer = new Composer("Starter Pattern Benchmark Composer");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStore() {
+        EntityService.get().endLoadPhase();
+        BenchmarkStore.stop();
+    }
+
+    @Benchmark
+    public void composeAndCommitPattern() {
+        long n = patternCount++;
+        EntityProxy.Pattern pattern = EntityProxy.Pattern.make("Benchmark Pattern " + n, new UUID(UUID_MSB, n));
+        Session session = composer.open(State.ACTIVE, PrimitiveData.PREMUNDANE_TIME, USER, PRIMORDIAL_MODULE, PRIMORDIAL_PATH);
+        session.compose((PatternAssembler patternAssembler) -> patternAssembler.pattern(pattern)
+                        .meaning(DESCRIPTION_SEMANTIC)
+                        .purpose(DESCRIPTION_SEMANTIC)
+                        .fieldDefinition(
+                                LANGUAGE_CONCEPT_NID_FOR_DESCRIPTION,
+                                LANGUAGE,
+                                COMPONENT_FIELD)
+                        .fieldDefinition(
+                                TEXT_FOR_DESCRIPTION,
+                                DESCRIPTION,
+                                STRING)
+                        .fieldDefinition(
+                                DESCRIPTION_CASE_SIGNIFICANCE,
+                                DESCRIPTION_CASE_SIGNIFICANCE,
+                                COMPONENT_FIELD)
+                        .fieldDefinition(
+                                DESCRIPTION_TYPE,
+                                DESCRIPTION_TYPE,
+                                COMPONENT_FIELD))
+                .attach((FullyQualifiedName fqn) -> fqn
+                        .text(pattern.description())
+                        .language(ENGLISH_LANGUAGE)
+                        .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE))
+                .attach((Synonym synonym) -> synonym
+                        .text(pattern.description())
+                        .language(ENGLISH_LANGUAGE)
+                        .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE))
+                .attach((Definition definition) -> definition
+                        .text("A pattern composed by the starter pattern benchmark")
+                        .language(ENGLISH_LANGUAGE)
+                        .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE))
+                .attach(new TinkarBaseModel());
+        composer.commitSession(session);
+    }
+}
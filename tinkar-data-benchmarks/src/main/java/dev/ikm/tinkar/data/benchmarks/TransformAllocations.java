@@ -0,0 +1,190 @@
+package dev.ikm.tinkar.data.benchmarks;
+
+import dev.ikm.tinkar.PerformanceBaseline;
+import dev.ikm.tinkar.TinkarStarterData;
+import dev.ikm.tinkar.data.compose.JsonWriter;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the starter data in memory under JFR allocation sampling and reports the bytes allocated per generated
+ * entity by the transform, along with the top allocation sites. Only samples inside the transform's load phase count.
+ * Exits with status 1 when bytes per entity grew more than the allowed fraction over the checked-in baseline, or
+ * when there is no baseline and {@code --update-baseline} was not given.
+ * <p>
+ * {@code java -cp tinkar-data-benchmarks/target/benchmarks.jar dev.ikm.tinkar.data.benchmarks.TransformAllocations
+ * [--baseline file.json] [--max-growth 0.10] [--update-baseline] [--report file.json]}
+ */
+public class TransformAllocations {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransformAllocations.class.getSimpleName());
+
+    private static final String BYTES_PER_ENTITY = "transformBytesPerEntity";
+    private static final int TOP_SITES = 25;
+
+    record Site(String frame, String caller) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        File baselineFile = new File("tinkar-data-benchmarks/allocation-baseline.json");
+        File reportFile = new File("tinkar-data-benchmarks/target/transform-allocations.json");
+        double maxGrowth = 0.10;
+        boolean updateBaseline = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--baseline" -> baselineFile = new File(args[++i]);
+                case "--report" -> reportFile = new File(args[++i]);
+                case "--max-growth" -> maxGrowth = Double.parseDouble(args[++i]);
+                case "--update-baseline" -> updateBaseline = true;
+                default -> throw new IllegalArgumentException("Unknown argument " + args[i]);
+            }
+        }
+
+        if (!updateBaseline && !baselineFile.isFile()) {
+            LOG.error("No allocation baseline at {}; run with --update-baseline to record one.",
+                    baselineFile.getAbsolutePath());
+            System.exit(1);
+        }
+        Path workDirectory = Files.createTempDirectory("tinkar-transform-allocations");
+        int status = 0;
+        try {
+            Path jfrFile = workDirectory.resolve("transform.jfr");
+            TinkarStarterData starterData = new TinkarStarterData(new String[]{
+                    workDirectory.resolve("datastore").toString(),
+                    workDirectory.resolve("tinkar-export-starter-data-pb.zip").toString()});
+            starterData.setStoreMode(TinkarStarterData.StoreMode.MEMORY);
+            starterData.setReportFile(workDirectory.resolve("generation-report.json").toFile());
+
+            try (Recording recording = new Recording()) {
+                recording.enable("jdk.ObjectAllocationSample").with("throttle", "1000/s").withStackTrace();
+                recording.enable("dev.ikm.tinkar.data.LoadPhase");
+                recording.start();
+                starterData.execute();
+                recording.stop();
+                recording.dump(jfrFile);
+            }
+
+            long entities = starterData.getReport().entities("transform");
+            List<RecordedEvent> events = RecordingFile.readAllEvents(jfrFile);
+            RecordedEvent loadPhase = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("dev.ikm.tinkar.data.LoadPhase"))
+                    .max((a, b) -> a.getDuration().compareTo(b.getDuration()))
+                    .orElseThrow(() -> new IllegalStateException("No load phase recorded"));
+            Instant from = loadPhase.getStartTime();
+            Instant to = loadPhase.getEndTime();
+
+            long totalBytes = 0;
+            Map<Site, Long> bytesBySite = new HashMap<>();
+            for (RecordedEvent event : events) {
+                if (!event.getEventType().getName().equals("jdk.ObjectAllocationSample")
+                        || event.getStartTime().isBefore(from) || event.getStartTime().isAfter(to)) {
+                    continue;
+                }
+                long weight = event.getLong("weight");
+                totalBytes += weight;
+                bytesBySite.merge(site(event), weight, Long::sum);
+            }
+            double bytesPerEntity = entities == 0 ? 0 : (double) totalBytes / entities;
+            LOG.info("Transform allocated ~{} bytes for {} entities: {} bytes per entity", totalBytes, entities,
+                    Math.round(bytesPerEntity));
+
+            writeReport(reportFile, totalBytes, entities, bytesPerEntity, bytesBySite);
+
+            if (updateBaseline) {
+                PerformanceBaseline.write(baselineFile, Map.of(BYTES_PER_ENTITY, bytesPerEntity));
+                LOG.warn("Wrote allocation baseline {}; check it in to enable the check.", baselineFile.getAbsolutePath());
+            } else {
+                status = check(baselineFile, bytesPerEntity, maxGrowth);
+            }
+        } finally {
+            BenchmarkFiles.delete(workDirectory.toFile());
+        }
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * The exit status for {@code bytesPerEntity} against the baseline: 0 within the allowed growth, 1 otherwise.
+     */
+    private static int check(File baselineFile, double bytesPerEntity, double maxGrowth) throws IOException {
+        Double baseline = PerformanceBaseline.read(baselineFile).get(BYTES_PER_ENTITY);
+        if (baseline == null || baseline <= 0) {
+            LOG.error("Allocation baseline {} has no positive {}; run with --update-baseline to record one.",
+                    baselineFile.getAbsolutePath(), BYTES_PER_ENTITY);
+            return 1;
+        }
+        if (bytesPerEntity > baseline * (1 + maxGrowth)) {
+            LOG.error("Bytes per entity regressed: {} against baseline {} (allowed growth {}%)",
+                    Math.round(bytesPerEntity), Math.round(baseline), Math.round(maxGrowth * 100));
+            return 1;
+        }
+        LOG.info("Bytes per entity {} within {}% of baseline {}", Math.round(bytesPerEntity),
+                Math.round(maxGrowth * 100), Math.round(baseline));
+        return 0;
+    }
+
+    /**
+     * The allocating frame and the first Tinkar frame that led to it.
+     */
+    private static Site site(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return new Site(event.getClass("objectClass").getName(), "unknown");
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        String caller = "unknown";
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod().getType().getName().startsWith("dev.ikm.")) {
+                caller = frameName(frame);
+                break;
+            }
+        }
+        return new Site(event.getClass("objectClass").getName() + " at " + frameName(frames.getFirst()), caller);
+    }
+
+    private static String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static void writeReport(File reportFile, long totalBytes, long entities, double bytesPerEntity,
+                                     Map<Site, Long> bytesBySite) throws IOException {
+        Map<Site, Long> topSites = new LinkedHashMap<>();
+        bytesBySite.entrySet().stream()
+                .sorted(Map.Entry.<Site, Long>comparingByValue().reversed())
+                .limit(TOP_SITES)
+                .forEach(entry -> topSites.put(entry.getKey(), entry.getValue()));
+
+        try (JsonWriter json = JsonWriter.create(reportFile)) {
+            json.beginObject()
+                    .property("javaVersion", Runtime.version().toString())
+                    .property("allocatedBytes", totalBytes)
+                    .property("entities", entities)
+                    .property(BYTES_PER_ENTITY, bytesPerEntity)
+                    .name("topSites").beginArray();
+            for (Map.Entry<Site, Long> entry : topSites.entrySet()) {
+                json.beginObject()
+                        .property("site", entry.getKey().frame())
+                        .property("caller", entry.getKey().caller())
+                        .property("bytes", entry.getValue())
+                        .endObject();
+                LOG.info("  {} bytes: {} from {}", entry.getValue(), entry.getKey().frame(), entry.getKey().caller());
+            }
+            json.endArray().endObject();
+        }
+        LOG.info("Wrote transform allocation report to {}", reportFile.getAbsolutePath());
+    }
+}
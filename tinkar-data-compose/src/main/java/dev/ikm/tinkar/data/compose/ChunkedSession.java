@@ -0,0 +1,81 @@
+package dev.ikm.tinkar.data.compose;
+
+import dev.ikm.tinkar.composer.Composer;
+import dev.ikm.tinkar.composer.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Commits the underlying {@link Session} every {@code chunkSize} composed components and continues in a freshly
+ * opened one, so pending components do not accumulate on the heap for the whole run. A component is one call to
+ * {@link #compose(Consumer)}, e.g. a concept together with its attached semantics. A chunk size of zero or less
+ * commits once, when {@link #commit()} is called.
+ */
+public class ChunkedSession {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChunkedSession.class.getSimpleName());
+
+    private final Composer composer;
+    private final Function<Composer, Session> sessionOpener;
+    private final int chunkSize;
+
+    private Runnable commitListener = () -> {};
+    private Session session;
+    private ComposeEvent composeEvent;
+    private int componentsInChunk;
+    private int chunkCount;
+    private long chunkStart;
+
+    public ChunkedSession(Composer composer, Function<Composer, Session> sessionOpener, int chunkSize) {
+        this.composer = composer;
+        this.sessionOpener = sessionOpener;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Runs {@code commitListener} after every chunk is committed.
+     */
+    public ChunkedSession onCommit(Runnable commitListener) {
+        this.commitListener = commitListener;
+        return this;
+    }
+
+    public void compose(Consumer<Session> component) {
+        if (session == null) {
+            session = sessionOpener.apply(composer);
+            chunkStart = System.currentTimeMillis();
+            composeEvent = new ComposeEvent();
+            composeEvent.begin();
+        }
+        component.accept(session);
+        componentsInChunk++;
+        if (chunkSize > 0 && componentsInChunk >= chunkSize) {
+            commit();
+        }
+    }
+
+    public void commit() {
+        if (session == null) {
+            return;
+        }
+        chunkCount++;
+        composeEvent.batch = "chunk " + chunkCount;
+        composeEvent.components = componentsInChunk;
+        composeEvent.commit();
+
+        CommitEvent commitEvent = new CommitEvent();
+        commitEvent.batch = composeEvent.batch;
+        commitEvent.components = componentsInChunk;
+        commitEvent.begin();
+        composer.commitSession(session);
+        commitEvent.commit();
+        LOG.info("Committed chunk {} with {} components in {} ms", chunkCount, componentsInChunk,
+                System.currentTimeMillis() - chunkStart);
+        session = null;
+        componentsInChunk = 0;
+        commitListener.run();
+    }
+}
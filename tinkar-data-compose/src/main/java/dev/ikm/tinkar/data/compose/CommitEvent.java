@@ -0,0 +1,20 @@
+package dev.ikm.tinkar.data.compose;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for {@code Composer.commitSession(Session)}.
+ */
+@Name("dev.ikm.tinkar.data.Commit")
+@Label("Commit Session")
+@Category({"Tinkar", "Data Generation"})
+public class CommitEvent extends jdk.jfr.Event {
+
+    @Label("Batch")
+    String batch;
+
+    @Label("Components")
+    int components;
+}
@@ -0,0 +1,22 @@
+package dev.ikm.tinkar.data.compose;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for composing one chunk of a {@link ChunkedSession} into a session.
+ */
+@Name("dev.ikm.tinkar.data.Compose")
+@Label("Compose Batch")
+@Category({"Tinkar", "Data Generation"})
+public class ComposeEvent extends jdk.jfr.Event {
+
+    @Label("Batch")
+    String batch;
+
+    @Label("Components")
+    @Description("Number of compose calls in the batch")
+    int components;
+}
@@ -0,0 +1,42 @@
+package dev.ikm.tinkar.data.compose;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.io.File;
+
+/**
+ * Flight Recorder event for writing entities to a protobuf export.
+ */
+@Name("dev.ikm.tinkar.data.Export")
+@Label("Export")
+@Category({"Tinkar", "Data Generation"})
+public class ExportEvent extends jdk.jfr.Event {
+
+    @Label("File")
+    String file;
+
+    @Label("Entities")
+    long entities;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Runs {@code export} and records it with the size of {@code exportFile} afterwards.
+     */
+    public static void record(File exportFile, Runnable export) {
+        ExportEvent event = new ExportEvent();
+        event.file = exportFile.getAbsolutePath();
+        event.begin();
+        try {
+            export.run();
+        } finally {
+            event.bytes = exportFile.length();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package dev.ikm.tinkar.data.compose;
+
+import dev.ikm.tinkar.entity.ConceptEntity;
+import dev.ikm.tinkar.entity.Entity;
+import dev.ikm.tinkar.entity.PatternEntity;
+import dev.ikm.tinkar.entity.SemanticEntity;
+import dev.ikm.tinkar.entity.StampEntity;
+import dev.ikm.tinkar.entity.transform.EntityToTinkarSchemaTransformer;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Protobuf export zip in the layout written by the tinkar export: one entry of delimited entities named after the
+ * export file, followed by a manifest with entity counts. An entity may be written more than once, as the streaming
+ * export does when an entity changes after it was written; every write adds a record, which importers merge, but the
+ * manifest counts each entity once.
+ */
+class ExportZipWriter implements AutoCloseable {
+
+    private final File exportFile;
+    private final ZipOutputStream zipOut;
+    private final LocalDateTime entryTime;
+    private final EntityToTinkarSchemaTransformer transformer = EntityToTinkarSchemaTransformer.getInstance();
+
+    // Nids are dense from Integer.MIN_VALUE upwards, so masking off the sign bit gives small, distinct indexes.
+    private final BitSet writtenNids = new BitSet();
+    private int recordCount;
+    private int conceptCount;
+    private int semanticCount;
+    private int patternCount;
+    private int stampCount;
+
+    /**
+     * @param entryTime modification time of every zip entry, or null for the current time
+     */
+    ExportZipWriter(File exportFile, Instant entryTime) throws IOException {
+        this.exportFile = exportFile;
+        // Local time without a zone, so the DOS timestamp in the zip does not depend on the build machine's zone.
+        this.entryTime = entryTime == null ? null : LocalDateTime.ofInstant(entryTime, ZoneOffset.UTC);
+        this.zipOut = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(exportFile)));
+        this.zipOut.putNextEntry(entry(exportFile.getName().replace(".zip", "")));
+    }
+
+    private ZipEntry entry(String name) {
+        ZipEntry entry = new ZipEntry(name);
+        if (entryTime != null) {
+            entry.setTimeLocal(entryTime);
+        }
+        return entry;
+    }
+
+    void write(Entity<?> entity) {
+        try {
+            transformer.transform(entity).writeDelimitedTo(zipOut);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while writing " + entity.publicId() + " to " + exportFile, e);
+        }
+        recordCount++;
+        int index = entity.nid() & Integer.MAX_VALUE;
+        if (writtenNids.get(index)) {
+            return;
+        }
+        writtenNids.set(index);
+        switch (entity) {
+            case ConceptEntity<?> concept -> conceptCount++;
+            case SemanticEntity<?> semantic -> semanticCount++;
+            case PatternEntity<?> pattern -> patternCount++;
+            case StampEntity<?> stamp -> stampCount++;
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Number of records written, counting an entity once for every write.
+     */
+    int recordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Number of distinct entities written.
+     */
+    int entityCount() {
+        return writtenNids.cardinality();
+    }
+
+    boolean written(int nid) {
+        return writtenNids.get(nid & Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        zipOut.closeEntry();
+
+        Manifest manifest = new Manifest();
+        Attributes attributes = manifest.getMainAttributes();
+        attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        attributes.putValue("Total-Count", Integer.toString(entityCount()));
+        attributes.putValue("Concept-Count", Integer.toString(conceptCount));
+        attributes.putValue("Semantic-Count", Integer.toString(semanticCount));
+        attributes.putValue("Pattern-Count", Integer.toString(patternCount));
+        attributes.putValue("Stamp-Count", Integer.toString(stampCount));
+        zipOut.putNextEntry(entry("META-INF/MANIFEST.MF"));
+        manifest.write(zipOut);
+        zipOut.closeEntry();
+        zipOut.close();
+    }
+}
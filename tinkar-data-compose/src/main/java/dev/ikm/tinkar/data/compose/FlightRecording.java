@@ -0,0 +1,48 @@
+package dev.ikm.tinkar.data.compose;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.List;
+
+/**
+ * Flight Recorder recording of a generator run with the JDK's default settings plus the data generation events.
+ * Closing the recording dumps it to the given file.
+ */
+public class FlightRecording implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FlightRecording.class.getSimpleName());
+
+    private final File jfrFile;
+    private final Recording recording;
+
+    public FlightRecording(File jfrFile) throws IOException {
+        this.jfrFile = jfrFile;
+        try {
+            this.recording = new Recording(Configuration.getConfiguration("default"));
+        } catch (ParseException e) {
+            throw new IOException("Error while reading the default JFR configuration.", e);
+        }
+        recording.setName("Tinkar data generation");
+        for (Class<? extends jdk.jfr.Event> eventClass : List.of(StoreLifecycleEvent.class,
+                LoadPhaseEvent.class, ComposeEvent.class, CommitEvent.class, ExportEvent.class)) {
+            recording.enable(eventClass);
+        }
+        recording.start();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            recording.dump(jfrFile.toPath());
+        } finally {
+            recording.close();
+        }
+        LOG.info("Wrote flight recording to {}", jfrFile.getAbsolutePath());
+    }
+}
@@ -0,0 +1,119 @@
+package dev.ikm.tinkar.data.compose;
+
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Times the phases of a generator run (init, transform, export, cleanup, ...) together with the number of entities
+ * and bytes each phase produced. The report is logged as each phase ends and can be written as JSON, so generation
+ * performance can be compared across releases.
+ */
+public class GenerationReport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GenerationReport.class.getSimpleName());
+
+    private static class Phase {
+        private final String name;
+        private long nanos;
+        private long entities;
+        private long bytes;
+
+        private Phase(String name) {
+            this.name = name;
+        }
+
+        private double entitiesPerSecond() {
+            return nanos == 0 ? 0 : entities * 1_000_000_000d / nanos;
+        }
+    }
+
+    private final String generator;
+    private final Instant started = Instant.now();
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+
+    public GenerationReport(String generator) {
+        this.generator = generator;
+    }
+
+    public void time(String phaseName, Runnable work) {
+        Phase phase = phases.computeIfAbsent(phaseName, Phase::new);
+        long start = System.nanoTime();
+        try {
+            work.run();
+        } finally {
+            phase.nanos += System.nanoTime() - start;
+        }
+    }
+
+    public void entities(String phaseName, long entities) {
+        phases.computeIfAbsent(phaseName, Phase::new).entities += entities;
+    }
+
+    public void bytes(String phaseName, File file) {
+        phases.computeIfAbsent(phaseName, Phase::new).bytes += file.length();
+    }
+
+    /**
+     * Entities produced by the named phase, or zero if the phase did not run.
+     */
+    public long entities(String phaseName) {
+        Phase phase = phases.get(phaseName);
+        return phase == null ? 0 : phase.entities;
+    }
+
+    /**
+     * Entities per second of the named phase, or zero if the phase did not run.
+     */
+    public double entitiesPerSecond(String phaseName) {
+        Phase phase = phases.get(phaseName);
+        return phase == null ? 0 : phase.entitiesPerSecond();
+    }
+
+    /**
+     * Number of entities in the running datastore.
+     */
+    public static long storeEntityCount() {
+        LongAdder count = new LongAdder();
+        PrimitiveData.get().forEach((bytes, nid) -> count.increment());
+        return count.sum();
+    }
+
+    public void log() {
+        long totalNanos = 0;
+        for (Phase phase : phases.values()) {
+            totalNanos += phase.nanos;
+            LOG.info("{} {}: {} ms, {} entities, {} entities/s, {} bytes", generator, phase.name,
+                    phase.nanos / 1_000_000, phase.entities, Math.round(phase.entitiesPerSecond()), phase.bytes);
+        }
+        LOG.info("{} total: {} ms", generator, totalNanos / 1_000_000);
+    }
+
+    public void write(File reportFile) throws IOException {
+        try (JsonWriter json = JsonWriter.create(reportFile)) {
+            json.beginObject()
+                    .property("generator", generator)
+                    .property("started", started.toString())
+                    .property("javaVersion", Runtime.version().toString())
+                    .name("phases").beginArray();
+            for (Phase phase : phases.values()) {
+                json.beginObject()
+                        .property("name", phase.name)
+                        .property("millis", phase.nanos / 1_000_000d)
+                        .property("entities", phase.entities)
+                        .property("entitiesPerSecond", phase.entitiesPerSecond())
+                        .property("bytes", phase.bytes)
+                        .endObject();
+            }
+            json.endArray().endObject();
+        }
+        LOG.info("Wrote generation report to {}", reportFile.getAbsolutePath());
+    }
+}
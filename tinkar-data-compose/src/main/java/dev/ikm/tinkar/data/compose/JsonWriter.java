@@ -0,0 +1,175 @@
+package dev.ikm.tinkar.data.compose;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Small streaming JSON writer for the generation and benchmark reports. Strings are escaped, numbers must be finite,
+ * and every member or element goes on its own line with two spaces of indentation per level.
+ */
+public class JsonWriter implements Closeable {
+
+    private final Writer out;
+    // One entry per open object or array: whether it has members yet.
+    private final Deque<boolean[]> scopes = new ArrayDeque<>();
+    private boolean afterName;
+
+    public JsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Opens a UTF-8 JSON file for writing, creating its parent directories.
+     */
+    public static JsonWriter create(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        return new JsonWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8));
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        return begin('{');
+    }
+
+    public JsonWriter endObject() throws IOException {
+        return end('}');
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        return begin('[');
+    }
+
+    public JsonWriter endArray() throws IOException {
+        return end(']');
+    }
+
+    public JsonWriter name(String name) throws IOException {
+        if (scopes.isEmpty() || afterName) {
+            throw new IllegalStateException("Member name " + name + " outside of an object");
+        }
+        separator();
+        out.write(quote(name));
+        out.write(": ");
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) throws IOException {
+        beforeValue();
+        out.write(value == null ? "null" : quote(value));
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(double value) throws IOException {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("JSON numbers must be finite, but was " + value);
+        }
+        beforeValue();
+        out.write(Double.toString(value));
+        return this;
+    }
+
+    public JsonWriter property(String name, String value) throws IOException {
+        return name(name).value(value);
+    }
+
+    public JsonWriter property(String name, long value) throws IOException {
+        return name(name).value(value);
+    }
+
+    public JsonWriter property(String name, double value) throws IOException {
+        return name(name).value(value);
+    }
+
+    /**
+     * The JSON string literal for {@code text}, with quotes, backslashes and control characters escaped.
+     */
+    public static String quote(String text) {
+        StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                case '\b' -> quoted.append("\\b");
+                case '\f' -> quoted.append("\\f");
+                default -> {
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private JsonWriter begin(char bracket) throws IOException {
+        beforeValue();
+        out.write(bracket);
+        scopes.push(new boolean[1]);
+        return this;
+    }
+
+    private JsonWriter end(char bracket) throws IOException {
+        if (scopes.isEmpty() || afterName) {
+            throw new IllegalStateException("Unbalanced " + bracket);
+        }
+        boolean hasMembers = scopes.pop()[0];
+        if (hasMembers) {
+            newline();
+        }
+        out.write(bracket);
+        if (scopes.isEmpty()) {
+            out.write('\n');
+        }
+        return this;
+    }
+
+    private void beforeValue() throws IOException {
+        if (afterName) {
+            afterName = false;
+        } else if (!scopes.isEmpty()) {
+            separator();
+        }
+    }
+
+    private void separator() throws IOException {
+        boolean[] hasMembers = scopes.element();
+        if (hasMembers[0]) {
+            out.write(',');
+        }
+        hasMembers[0] = true;
+        newline();
+    }
+
+    private void newline() throws IOException {
+        out.write('\n');
+        for (int i = 0; i < scopes.size(); i++) {
+            out.write("  ");
+        }
+    }
+}
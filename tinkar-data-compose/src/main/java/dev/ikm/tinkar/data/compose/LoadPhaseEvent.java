@@ -0,0 +1,41 @@
+package dev.ikm.tinkar.data.compose;
+
+import dev.ikm.tinkar.entity.EntityService;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event spanning an entity service load phase, from {@code beginLoadPhase()} through
+ * {@code endLoadPhase()}.
+ */
+@Name("dev.ikm.tinkar.data.LoadPhase")
+@Label("Load Phase")
+@Category({"Tinkar", "Data Generation"})
+@Description("EntityService load phase, including the work done while it is open")
+public class LoadPhaseEvent extends jdk.jfr.Event {
+
+    @Label("End Load Phase Duration")
+    @Description("Time spent in endLoadPhase()")
+    @Timespan(Timespan.NANOSECONDS)
+    long endLoadPhaseDuration;
+
+    /**
+     * Runs {@code work} inside a load phase and records it.
+     */
+    public static void run(Runnable work) {
+        LoadPhaseEvent event = new LoadPhaseEvent();
+        event.begin();
+        EntityService.get().beginLoadPhase();
+        try {
+            work.run();
+        } finally {
+            long endStart = System.nanoTime();
+            EntityService.get().endLoadPhase();
+            event.endLoadPhaseDuration = System.nanoTime() - endStart;
+            event.commit();
+        }
+    }
+}
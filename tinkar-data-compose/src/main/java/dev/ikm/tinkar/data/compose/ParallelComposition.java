@@ -0,0 +1,166 @@
+package dev.ikm.tinkar.data.compose;
+
+import dev.ikm.tinkar.composer.Composer;
+import dev.ikm.tinkar.composer.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Prepares groups of components on virtual threads and composes them on the calling thread in the order the groups
+ * were added. The Composer therefore sees the same sequence of calls, and assigns the same nids and STAMPs, whatever
+ * the parallelism; a parallelism of zero or one prepares every group on the calling thread as well.
+ * <p>
+ * Preparing a group builds its components, e.g. their proxies, texts and field values, and runs concurrently with
+ * composing earlier groups. It must not resolve nids or use the Composer; resolving a nid assigns it, so that only
+ * happens inside the components. Consecutive groups with the same session opener compose into one
+ * {@link ChunkedSession}, so they commit under one STAMP per chunk, exactly as if they had been composed one after
+ * another. At most {@code parallelism} prepared groups wait to be composed, which keeps memory bounded.
+ */
+public class ParallelComposition {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelComposition.class.getSimpleName());
+
+    private record Group(Function<Composer, Session> sessionOpener, int chunkSize,
+                         Callable<List<Consumer<Session>>> preparation) {
+    }
+
+    private final Composer composer;
+    private final int chunkSize;
+    private final List<Group> groups = new ArrayList<>();
+    private Runnable commitListener = () -> {};
+
+    /**
+     * @param chunkSize components per committed chunk, as for {@link ChunkedSession}; also the size of the groups
+     *                  {@link #addRange} prepares
+     */
+    public ParallelComposition(Composer composer, int chunkSize) {
+        this.composer = composer;
+        this.chunkSize = chunkSize;
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Runs {@code commitListener} after every chunk is committed.
+     */
+    public ParallelComposition onCommit(Runnable commitListener) {
+        this.commitListener = commitListener;
+        return this;
+    }
+
+    /**
+     * Adds a single component that needs no preparation.
+     */
+    public ParallelComposition add(Function<Composer, Session> sessionOpener, Consumer<Session> component) {
+        return addGroup(sessionOpener, () -> List.of(component));
+    }
+
+    /**
+     * Adds a group whose components are built by {@code preparation}.
+     */
+    public ParallelComposition addGroup(Function<Composer, Session> sessionOpener,
+                                        Callable<List<Consumer<Session>>> preparation) {
+        return addGroup(sessionOpener, chunkSize, preparation);
+    }
+
+    /**
+     * Adds a group committed in chunks of {@code chunkSize} components instead of the composition's chunk size. Only
+     * the first group of a run of groups sharing a session opener sets the chunk size.
+     */
+    public ParallelComposition addGroup(Function<Composer, Session> sessionOpener, int chunkSize,
+                                        Callable<List<Consumer<Session>>> preparation) {
+        groups.add(new Group(sessionOpener, chunkSize, preparation));
+        return this;
+    }
+
+    /**
+     * Adds the components {@code component} builds for the indexes {@code 0} to {@code count - 1}, in groups of the
+     * composition's chunk size. {@code component} is called during preparation and may return null to skip an index.
+     */
+    public ParallelComposition addRange(Function<Composer, Session> sessionOpener, long count,
+                                        LongFunction<Consumer<Session>> component) {
+        return addRange(sessionOpener, chunkSize, count, component);
+    }
+
+    /**
+     * Like {@link #addRange(Function, long, LongFunction)}, committed in chunks of {@code chunkSize} components.
+     */
+    public ParallelComposition addRange(Function<Composer, Session> sessionOpener, int chunkSize, long count,
+                                        LongFunction<Consumer<Session>> component) {
+        long groupSize = chunkSize > 0 ? chunkSize : Math.max(1, count);
+        for (long first = 0; first < count; first += groupSize) {
+            long from = first;
+            long to = Math.min(count, first + groupSize);
+            addGroup(sessionOpener, chunkSize, () -> {
+                List<Consumer<Session>> components = new ArrayList<>((int) (to - from));
+                for (long index = from; index < to; index++) {
+                    Consumer<Session> built = component.apply(index);
+                    if (built != null) {
+                        components.add(built);
+                    }
+                }
+                return components;
+            });
+        }
+        return this;
+    }
+
+    public void composeAndCommit(int parallelism) {
+        long start = System.currentTimeMillis();
+        int window = Math.max(1, parallelism);
+        ChunkedSession chunkedSession = null;
+        Function<Composer, Session> sessionOpener = null;
+        try (ExecutorService executor = parallelism > 1 ? Executors.newVirtualThreadPerTaskExecutor() : null) {
+            Deque<Future<List<Consumer<Session>>>> prepared = new ArrayDeque<>();
+            int submitted = 0;
+            for (Group group : groups) {
+                List<Consumer<Session>> components;
+                if (executor == null) {
+                    components = group.preparation().call();
+                } else {
+                    while (submitted < groups.size() && prepared.size() < window) {
+                        prepared.add(executor.submit(groups.get(submitted++).preparation()));
+                    }
+                    components = prepared.remove().get();
+                }
+                if (group.sessionOpener() != sessionOpener) {
+                    if (chunkedSession != null) {
+                        chunkedSession.commit();
+                    }
+                    sessionOpener = group.sessionOpener();
+                    chunkedSession = new ChunkedSession(composer, sessionOpener, group.chunkSize()).onCommit(commitListener);
+                }
+                components.forEach(chunkedSession::compose);
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error while preparing components in parallel.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while preparing components in parallel.", e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Error while preparing components.", e);
+        }
+        if (chunkedSession != null) {
+            chunkedSession.commit();
+        }
+        LOG.info("Composed and committed {} groups with parallelism {} in {} ms", groups.size(), parallelism,
+                System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,177 @@
+package dev.ikm.tinkar.data.compose;
+
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.entity.EntityRecordFactory;
+import dev.ikm.tinkar.entity.EntityService;
+import dev.ikm.tinkar.terms.EntityProxy;
+import dev.ikm.tinkar.terms.TinkarTerm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Binary snapshot of every entity in the running datastore, together with the complete UUID to nid assignment up to
+ * the last entity, in nid order. Nids without an entity, such as a pattern that semantics reference but that was never
+ * composed, are recorded with their public id only. Loading a snapshot into an empty datastore assigns every recorded
+ * public id in the same order, so it gets the same nids, and then puts the serialized entities directly, without
+ * going through the Composer.
+ */
+public class PrecompiledEntities {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PrecompiledEntities.class.getSimpleName());
+
+    private static final int MAGIC = 0x544B4E45;
+    private static final int FORMAT_VERSION = 2;
+    private static final int NO_ENTITY = -1;
+
+    private PrecompiledEntities() {
+    }
+
+    /**
+     * Writes the snapshot. Nids without an entity are resolved against the {@link TinkarTerm} proxies; fails when a
+     * nid below the last entity's has neither an entity nor a Tinkar term, since its public id cannot be recorded.
+     *
+     * @return the number of entities written
+     */
+    public static int write(File file) throws IOException {
+        long start = System.currentTimeMillis();
+        TreeMap<Integer, byte[]> bytesByNid = new TreeMap<>();
+        PrimitiveData.get().forEach((bytes, nid) -> bytesByNid.put(nid, bytes));
+        TreeMap<Integer, UUID[]> uuidsByNid = new TreeMap<>();
+        bytesByNid.forEach((nid, bytes) -> uuidsByNid.put(nid, EntityService.get().getEntityFast(nid).publicId().asUuidArray()));
+        if (!bytesByNid.isEmpty()) {
+            int lastNid = bytesByNid.lastKey();
+            for (EntityProxy proxy : termProxies()) {
+                int nid = proxy.nid();
+                if (nid <= lastNid) {
+                    uuidsByNid.putIfAbsent(nid, proxy.asUuidArray());
+                }
+            }
+            for (int nid = uuidsByNid.firstKey(); nid < lastNid; nid++) {
+                if (!uuidsByNid.containsKey(nid)) {
+                    throw new IllegalStateException("Nid " + nid + " has no entity and is not a Tinkar term, so its "
+                            + "public id cannot be recorded in " + file.getName());
+                }
+            }
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(uuidsByNid.size());
+            for (Map.Entry<Integer, UUID[]> entry : uuidsByNid.entrySet()) {
+                out.writeInt(entry.getKey());
+                out.writeShort(entry.getValue().length);
+                for (UUID uuid : entry.getValue()) {
+                    out.writeLong(uuid.getMostSignificantBits());
+                    out.writeLong(uuid.getLeastSignificantBits());
+                }
+                byte[] bytes = bytesByNid.get(entry.getKey());
+                if (bytes == null) {
+                    out.writeInt(NO_ENTITY);
+                } else {
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+        }
+        LOG.info("Wrote {} precompiled entities and {} nids without an entity to {} in {} ms", bytesByNid.size(),
+                uuidsByNid.size() - bytesByNid.size(), file.getAbsolutePath(), System.currentTimeMillis() - start);
+        return bytesByNid.size();
+    }
+
+    /**
+     * Loads a snapshot written by {@link #write(File)}. The datastore must be empty and must not have assigned any
+     * nids yet, so that the recorded public ids get the recorded nids.
+     *
+     * @return the number of entities loaded
+     */
+    public static int load(InputStream inputStream) throws IOException {
+        long start = System.currentTimeMillis();
+        // Checked before any UUID is resolved, since resolving one assigns it a nid.
+        long existing = GenerationReport.storeEntityCount();
+        if (existing > 0) {
+            throw new IllegalStateException("Precompiled entities require an empty datastore, but it holds "
+                    + existing + " entities");
+        }
+        int count;
+        int[] nids;
+        UUID[][] publicIds;
+        byte[][] entityBytes;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a precompiled entity file");
+            }
+            int formatVersion = in.readInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("Unsupported precompiled entity format version: " + formatVersion);
+            }
+            count = in.readInt();
+            nids = new int[count];
+            publicIds = new UUID[count][];
+            entityBytes = new byte[count][];
+            for (int i = 0; i < count; i++) {
+                nids[i] = in.readInt();
+                UUID[] uuids = new UUID[in.readUnsignedShort()];
+                for (int j = 0; j < uuids.length; j++) {
+                    uuids[j] = new UUID(in.readLong(), in.readLong());
+                }
+                publicIds[i] = uuids;
+                int length = in.readInt();
+                if (length != NO_ENTITY) {
+                    entityBytes[i] = new byte[length];
+                    in.readFully(entityBytes[i]);
+                }
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            int nid = PrimitiveData.nid(publicIds[i]);
+            if (nid != nids[i]) {
+                throw new IllegalStateException("Precompiled entities require a datastore without assigned nids. "
+                        + "Expected nid " + nids[i] + " for " + publicIds[i][0] + " but was assigned " + nid);
+            }
+        }
+
+        int[] loaded = new int[1];
+        LoadPhaseEvent.run(() -> {
+            for (byte[] bytes : entityBytes) {
+                if (bytes != null) {
+                    EntityService.get().putEntity(EntityRecordFactory.make(bytes));
+                    loaded[0]++;
+                }
+            }
+        });
+        LOG.info("Loaded {} precompiled entities in {} ms", loaded[0], System.currentTimeMillis() - start);
+        return loaded[0];
+    }
+
+    private static List<EntityProxy> termProxies() {
+        List<EntityProxy> proxies = new ArrayList<>();
+        for (Field field : TinkarTerm.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && EntityProxy.class.isAssignableFrom(field.getType())) {
+                try {
+                    proxies.add((EntityProxy) field.get(null));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot read TinkarTerm." + field.getName(), e);
+                }
+            }
+        }
+        return proxies;
+    }
+}
@@ -0,0 +1,111 @@
+package dev.ikm.tinkar.data.compose;
+
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.entity.Entity;
+import dev.ikm.tinkar.entity.EntityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes entities to a protobuf export zip as they are committed, instead of reading the whole datastore back in a
+ * separate export phase. The sink subscribes to entity change notifications; {@link #flush()} writes every entity
+ * changed since the previous flush and is meant to be called after each session commit. An entity that changes
+ * again after it was written, for instance when a later session adds a version, is written again as an extra
+ * record; importers merge the records of one entity, and the manifest counts it once.
+ */
+public class ProtobufExportSink implements Flow.Subscriber<Integer>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProtobufExportSink.class.getSimpleName());
+
+    private final File exportFile;
+    private final ExportZipWriter zipWriter;
+    private final Queue<Integer> changedNids = new ConcurrentLinkedQueue<>();
+
+    public ProtobufExportSink(File exportFile) throws IOException {
+        this.exportFile = exportFile;
+        this.zipWriter = new ExportZipWriter(exportFile, null);
+        EntityService.get().addSubscriberWithWeakReference(this);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(Integer nid) {
+        changedNids.add(nid);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        LOG.error("Entity change notifications failed; the export may be incomplete.", throwable);
+    }
+
+    @Override
+    public void onComplete() {
+    }
+
+    public synchronized void flush() {
+        ExportEvent event = new ExportEvent();
+        event.file = exportFile.getAbsolutePath();
+        event.begin();
+        Set<Integer> flushedNids = new HashSet<>();
+        Integer nid;
+        while ((nid = changedNids.poll()) != null) {
+            if (!flushedNids.add(nid)) {
+                continue;
+            }
+            Entity<?> entity = EntityService.get().getEntityFast(nid);
+            if (entity != null) {
+                zipWriter.write(entity);
+                event.entities++;
+            }
+        }
+        event.commit();
+    }
+
+    /**
+     * Number of entity records written so far, counting an entity once for every flush that wrote it.
+     */
+    public synchronized int recordCount() {
+        return zipWriter.recordCount();
+    }
+
+    /**
+     * Number of distinct entities written so far.
+     */
+    public synchronized int entityCount() {
+        return zipWriter.entityCount();
+    }
+
+    /**
+     * Number of entities in the running datastore that have not been written.
+     */
+    public synchronized long missingEntityCount() {
+        LongAdder missing = new LongAdder();
+        PrimitiveData.get().forEach((bytes, nid) -> {
+            if (!zipWriter.written(nid)) {
+                missing.increment();
+            }
+        });
+        return missing.sum();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        zipWriter.close();
+        LOG.info("Streamed {} records of {} entities to {}", zipWriter.recordCount(), zipWriter.entityCount(),
+                exportFile.getAbsolutePath());
+    }
+}
@@ -0,0 +1,88 @@
+package dev.ikm.tinkar.data.compose;
+
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.entity.ConceptEntity;
+import dev.ikm.tinkar.entity.Entity;
+import dev.ikm.tinkar.entity.EntityService;
+import dev.ikm.tinkar.entity.PatternEntity;
+import dev.ikm.tinkar.entity.SemanticEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Exports the datastore to a protobuf zip whose bytes depend only on the entities in it: entities are written grouped
+ * by type (concepts, patterns, semantics, stamps) and ordered by public id within each group, and every zip entry
+ * carries the same fixed timestamp.
+ */
+public class ReproducibleExport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReproducibleExport.class.getSimpleName());
+
+    private record SortKey(int typeRank, UUID uuid, int nid) {
+    }
+
+    private static final Comparator<SortKey> ORDER = Comparator.comparingInt(SortKey::typeRank)
+            .thenComparing(SortKey::uuid);
+
+    private ReproducibleExport() {
+    }
+
+    /**
+     * Parses a timestamp in the format of Maven's {@code project.build.outputTimestamp}: seconds since the epoch or
+     * an ISO-8601 date time with offset. Values shorter than two characters disable reproducible output, as they do
+     * in Maven.
+     */
+    public static Optional<Instant> parseOutputTimestamp(String outputTimestamp) {
+        if (outputTimestamp == null || outputTimestamp.length() < 2) {
+            return Optional.empty();
+        }
+        if (outputTimestamp.chars().allMatch(Character::isDigit)) {
+            return Optional.of(Instant.ofEpochSecond(Long.parseLong(outputTimestamp)));
+        }
+        return Optional.of(OffsetDateTime.parse(outputTimestamp).toInstant());
+    }
+
+    public static int export(File exportFile, Instant entryTime) throws IOException {
+        long start = System.currentTimeMillis();
+        List<SortKey> keys = new ArrayList<>();
+        PrimitiveData.get().forEach((bytes, nid) -> {
+            Entity<?> entity = EntityService.get().getEntityFast(nid);
+            keys.add(new SortKey(typeRank(entity), entity.publicId().asUuidArray()[0], nid));
+        });
+        keys.sort(ORDER);
+
+        ExportEvent event = new ExportEvent();
+        event.file = exportFile.getAbsolutePath();
+        event.begin();
+        try (ExportZipWriter zipWriter = new ExportZipWriter(exportFile, entryTime)) {
+            for (SortKey key : keys) {
+                zipWriter.write(EntityService.get().getEntityFast(key.nid()));
+            }
+        }
+        event.entities = keys.size();
+        event.bytes = exportFile.length();
+        event.commit();
+        LOG.info("Exported {} entities in reproducible order to {} in {} ms", keys.size(),
+                exportFile.getAbsolutePath(), System.currentTimeMillis() - start);
+        return keys.size();
+    }
+
+    private static int typeRank(Entity<?> entity) {
+        return switch (entity) {
+            case ConceptEntity<?> concept -> 0;
+            case PatternEntity<?> pattern -> 1;
+            case SemanticEntity<?> semantic -> 2;
+            default -> 3;
+        };
+    }
+}
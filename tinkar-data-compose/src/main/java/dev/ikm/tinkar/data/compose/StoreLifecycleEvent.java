@@ -0,0 +1,31 @@
+package dev.ikm.tinkar.data.compose;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for starting or stopping the datastore with {@code PrimitiveData.start()} and
+ * {@code PrimitiveData.stop()}.
+ */
+@Name("dev.ikm.tinkar.data.StoreLifecycle")
+@Label("Store Lifecycle")
+@Category({"Tinkar", "Data Generation"})
+@Description("PrimitiveData start or stop")
+public class StoreLifecycleEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    public static void record(String operation, Runnable work) {
+        StoreLifecycleEvent event = new StoreLifecycleEvent();
+        event.operation = operation;
+        event.begin();
+        try {
+            work.run();
+        } finally {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+open module dev.ikm.tinkar.data.compose {
+    requires dev.ikm.tinkar.common;
+    requires dev.ikm.tinkar.composer;
+    requires dev.ikm.tinkar.entity;
+    requires org.slf4j;
+    requires transitive jdk.jfr;
+
+    exports dev.ikm.tinkar.data.compose;
+}
@@ -0,0 +1,135 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.common.service.PrimitiveData;
+import dev.ikm.tinkar.common.util.time.DateTimeUtil;
+import dev.ikm.tinkar.composer.Session;
+import dev.ikm.tinkar.composer.assembler.ConceptAssembler;
+import dev.ikm.tinkar.composer.assembler.SemanticAssembler;
+import dev.ikm.tinkar.composer.template.FullyQualifiedName;
+import dev.ikm.tinkar.composer.template.StatedAxiom;
+import dev.ikm.tinkar.composer.template.StatedNavigation;
+import dev.ikm.tinkar.composer.template.USDialect;
+import dev.ikm.tinkar.data.compose.ParallelComposition;
+import dev.ikm.tinkar.terms.EntityProxy;
+import dev.ikm.tinkar.terms.State;
+import org.eclipse.collections.api.factory.Lists;
+
+import java.util.UUID;
+
+import static dev.ikm.tinkar.TinkarExampleData.EXAMPLE_PATTERN_ONE;
+import static dev.ikm.tinkar.TinkarExampleData.SAMPLE_TINKAR_DATA;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_NOT_CASE_SENSITIVE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.ENGLISH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.MASTER_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.PATH_ORIGINS_PATTERN;
+import static dev.ikm.tinkar.terms.TinkarTerm.PREFERRED;
+import static dev.ikm.tinkar.terms.TinkarTerm.PRIMORDIAL_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.PRIMORDIAL_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.SANDBOX_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.USER;
+
+/**
+ * Divergent edits on the sandbox, development and master paths, for benchmarking path-aware latest version
+ * calculation. Concepts and their Tinkar Semantic Test Pattern 1 semantics are created on the sandbox path, and each
+ * path then edits the semantics in rounds, one hour apart. The starter data's path origins, which let every path see
+ * all of its origin, are given new versions with real origin times: development branches from sandbox after the
+ * concepts are created, and master branches from development after the first round of edits. Each path therefore
+ * resolves a different latest version of every semantic. Requires a datastore with the starter data.
+ */
+public class BranchingData implements ExampleWorkload {
+
+    private static final long CONCEPT_UUID_MSB = 0x4252_414E_4348_4943L;
+    private static final long SEMANTIC_UUID_MSB = 0x4252_414E_4348_4953L;
+    private static final long ORIGIN_UUID_MSB = 0x4252_414E_4348_494FL;
+    private static final long INTERVAL = 3_600_000L;
+
+    private final long conceptCount;
+    private int editRounds = 3;
+
+    public BranchingData(long conceptCount) {
+        this.conceptCount = conceptCount;
+    }
+
+    /**
+     * Rounds of edits on each path. Master, which branches after the first round, edits from the second round on.
+     * Defaults to three.
+     */
+    public BranchingData editRounds(int editRounds) {
+        this.editRounds = Math.max(1, editRounds);
+        return this;
+    }
+
+    public static EntityProxy.Concept concept(long index) {
+        return EntityProxy.Concept.make("Branching Concept " + index, new UUID(CONCEPT_UUID_MSB, index));
+    }
+
+    public static EntityProxy.Semantic semantic(long index) {
+        return EntityProxy.Semantic.make("Branching Semantic " + index, new UUID(SEMANTIC_UUID_MSB, index));
+    }
+
+    @Override
+    public void addTo(ParallelComposition composition, long stampTime) {
+        composition.add(composer -> composer.open(State.ACTIVE, stampTime, USER, PRIMORDIAL_MODULE, PRIMORDIAL_PATH),
+                session -> {
+                    setPathOrigin(session, DEVELOPMENT_PATH, SANDBOX_PATH, stampTime + INTERVAL);
+                    setPathOrigin(session, MASTER_PATH, DEVELOPMENT_PATH, stampTime + 3 * INTERVAL);
+                });
+
+        composition.addRange(composer -> composer.open(State.ACTIVE, stampTime, USER, DEVELOPMENT_MODULE, SANDBOX_PATH),
+                conceptCount, index -> session -> composeConcept(session, index));
+
+        for (int round = 0; round < editRounds; round++) {
+            long time = stampTime + (2 + 2L * round) * INTERVAL;
+            addEdits(composition, SANDBOX_PATH, round, time);
+            addEdits(composition, DEVELOPMENT_PATH, round, time);
+            if (round > 0) {
+                addEdits(composition, MASTER_PATH, round, time);
+            }
+        }
+    }
+
+    private void setPathOrigin(Session session, EntityProxy.Concept path, EntityProxy.Concept originPath, long originTime) {
+        int[] originNids = PrimitiveData.get().semanticNidsForComponentOfPattern(path.nid(), PATH_ORIGINS_PATTERN.nid());
+        EntityProxy.Semantic origin = originNids.length > 0
+                ? EntityProxy.Semantic.make(originNids[0])
+                : EntityProxy.Semantic.make("Branching Origin " + path.description(),
+                        new UUID(ORIGIN_UUID_MSB, path.asUuidArray()[0].getLeastSignificantBits()));
+        session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                .semantic(origin)
+                .pattern(PATH_ORIGINS_PATTERN)
+                .reference(path)
+                .fieldValues(objects -> objects.addAll(Lists.mutable.of(originPath, DateTimeUtil.epochMsToInstant(originTime)))));
+    }
+
+    private void composeConcept(Session session, long index) {
+        EntityProxy.Concept concept = concept(index);
+        session.compose((ConceptAssembler conceptAssembler) -> conceptAssembler.concept(concept))
+                .attach((FullyQualifiedName fqn) -> fqn
+                        .text(concept.description())
+                        .language(ENGLISH_LANGUAGE)
+                        .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                        .attach(new USDialect().acceptability(PREFERRED)))
+                .attach(new StatedNavigation()
+                        .parents(SAMPLE_TINKAR_DATA))
+                .attach(new StatedAxiom()
+                        .isA(SAMPLE_TINKAR_DATA));
+        composeSemantic(session, index, "Created");
+    }
+
+    private void addEdits(ParallelComposition composition, EntityProxy.Concept path, int round, long time) {
+        String edit = path.description() + " edit " + round;
+        composition.addRange(composer -> composer.open(State.ACTIVE, time, USER, DEVELOPMENT_MODULE, path),
+                conceptCount, index -> session -> composeSemantic(session, index, edit));
+    }
+
+    private static void composeSemantic(Session session, long index, String edit) {
+        session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                .semantic(semantic(index))
+                .pattern(EXAMPLE_PATTERN_ONE)
+                .reference(concept(index))
+                .fieldValues(objects -> objects.addAll(Lists.mutable.of(
+                        edit, (int) index, index / 4f, index % 2 == 0))));
+    }
+}
@@ -0,0 +1,17 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.data.compose.ParallelComposition;
+
+/**
+ * Additional content composed after the example data, used to load test the Tinkar stack with production-sized or
+ * production-shaped data. Workloads add their components to a {@link ParallelComposition}, which commits them in
+ * chunks so memory stays bounded however much they generate, and composes them in the order they were added so the
+ * result does not depend on the parallelism.
+ */
+public interface ExampleWorkload {
+
+    /**
+     * @param stampTime time of the example data STAMPs, which workloads use as their starting time
+     */
+    void addTo(ParallelComposition composition, long stampTime);
+}
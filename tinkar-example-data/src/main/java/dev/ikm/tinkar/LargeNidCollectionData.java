@@ -0,0 +1,101 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.common.id.IntIds;
+import dev.ikm.tinkar.composer.Session;
+import dev.ikm.tinkar.composer.assembler.ConceptAssembler;
+import dev.ikm.tinkar.composer.assembler.SemanticAssembler;
+import dev.ikm.tinkar.data.compose.ParallelComposition;
+import dev.ikm.tinkar.terms.EntityProxy;
+import dev.ikm.tinkar.terms.State;
+import org.eclipse.collections.api.factory.Lists;
+
+import java.util.UUID;
+
+import static dev.ikm.tinkar.TinkarExampleData.EXAMPLE_PATTERN_TWO;
+import static dev.ikm.tinkar.TinkarExampleData.SAMPLE_TINKAR_DATA;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.USER;
+
+/**
+ * Tinkar Semantic Test Pattern 2 semantics whose component set and component list hold every one of a large number
+ * of member concepts, shaped like value set semantics. Each semantic's list starts at a different member, so the
+ * lists differ while the sets are the same. The member concepts are bare concepts without semantics. Because a single
+ * semantic can hold megabytes of nids, each thousand nids counts as a component when committing in chunks.
+ */
+public class LargeNidCollectionData implements ExampleWorkload {
+
+    private static final long MEMBER_UUID_MSB = 0x4E49_4453_4D45_4D42L;
+    private static final long SEMANTIC_UUID_MSB = 0x4E49_4453_5345_4D41L;
+
+    private final long semanticCount;
+    private final int collectionSize;
+    private int[] resolvedMemberNids;
+
+    /**
+     * @param collectionSize members, and so nids in each semantic's component set and component list
+     */
+    public LargeNidCollectionData(long semanticCount, int collectionSize) {
+        this.semanticCount = semanticCount;
+        this.collectionSize = Math.max(1, collectionSize);
+    }
+
+    public static EntityProxy.Concept member(int index) {
+        return EntityProxy.Concept.make("Collection Member " + index, new UUID(MEMBER_UUID_MSB, index));
+    }
+
+    public static EntityProxy.Semantic semantic(long index) {
+        return EntityProxy.Semantic.make("Large Collection Semantic " + index, new UUID(SEMANTIC_UUID_MSB, index));
+    }
+
+    public int[] memberNids() {
+        int[] memberNids = new int[collectionSize];
+        for (int i = 0; i < collectionSize; i++) {
+            memberNids[i] = member(i).nid();
+        }
+        return memberNids;
+    }
+
+    @Override
+    public void addTo(ParallelComposition composition, long stampTime) {
+        composition.addRange(composer -> composer.open(State.ACTIVE, stampTime, USER, DEVELOPMENT_MODULE, DEVELOPMENT_PATH),
+                collectionSize, index -> {
+                    EntityProxy.Concept member = member((int) index);
+                    return session -> session.compose((ConceptAssembler conceptAssembler) -> conceptAssembler.concept(member));
+                });
+
+        // A separate opener, so the members are committed before the semantics resolve their nids.
+        int semanticsPerChunk = (int) Math.max(1, composition.chunkSize() / (1 + 2L * collectionSize / 1000));
+        composition.addRange(composer -> composer.open(State.ACTIVE, stampTime, USER, DEVELOPMENT_MODULE, DEVELOPMENT_PATH),
+                semanticsPerChunk, semanticCount, index -> session -> composeSemantic(session, index, resolvedMemberNids()));
+    }
+
+    /**
+     * Resolves the member nids on the composing thread when the first semantic is composed.
+     */
+    private int[] resolvedMemberNids() {
+        if (resolvedMemberNids == null) {
+            resolvedMemberNids = memberNids();
+        }
+        return resolvedMemberNids;
+    }
+
+    /**
+     * Composes the semantic at {@code index}, whose set holds {@code memberNids} and whose list holds them rotated by
+     * {@code index}.
+     */
+    public static void composeSemantic(Session session, long index, int[] memberNids) {
+        int[] rotated = new int[memberNids.length];
+        int offset = (int) (index % memberNids.length);
+        System.arraycopy(memberNids, offset, rotated, 0, memberNids.length - offset);
+        System.arraycopy(memberNids, 0, rotated, memberNids.length - offset, offset);
+        session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                .semantic(semantic(index))
+                .pattern(EXAMPLE_PATTERN_TWO)
+                .reference(SAMPLE_TINKAR_DATA)
+                .fieldValues(objects -> objects.addAll(Lists.mutable.of(
+                        SAMPLE_TINKAR_DATA,
+                        IntIds.set.of(memberNids),
+                        IntIds.list.of(rotated)))));
+    }
+}
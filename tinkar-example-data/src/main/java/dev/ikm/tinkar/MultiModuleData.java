@@ -0,0 +1,170 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.composer.Composer;
+import dev.ikm.tinkar.composer.Session;
+import dev.ikm.tinkar.composer.assembler.ConceptAssembler;
+import dev.ikm.tinkar.composer.assembler.SemanticAssembler;
+import dev.ikm.tinkar.composer.template.FullyQualifiedName;
+import dev.ikm.tinkar.composer.template.StatedAxiom;
+import dev.ikm.tinkar.composer.template.StatedNavigation;
+import dev.ikm.tinkar.composer.template.USDialect;
+import dev.ikm.tinkar.data.compose.ParallelComposition;
+import dev.ikm.tinkar.terms.EntityProxy;
+import dev.ikm.tinkar.terms.State;
+import org.eclipse.collections.api.factory.Lists;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+import static dev.ikm.tinkar.TinkarExampleData.EXAMPLE_PATTERN_ONE;
+import static dev.ikm.tinkar.TinkarExampleData.SAMPLE_TINKAR_DATA;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_NOT_CASE_SENSITIVE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.ENGLISH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.KOMET_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.PREFERRED;
+import static dev.ikm.tinkar.terms.TinkarTerm.SANDBOX_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.SOLOR_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.USER;
+import static dev.ikm.tinkar.terms.TinkarTerm.USERS_MODULE;
+
+/**
+ * Concepts and Tinkar Semantic Test Pattern 1 semantics spread over many modules, for load testing module exclusion
+ * and module priority filtering. The modules are the SOLOR, KOMET, sandbox and users modules followed by synthetic
+ * modules, and concepts are assigned to them in turn. For a percentage of the concepts the next module also writes an
+ * overlay version of the semantic with the same time and path, so those semantics have contradictory latest versions
+ * unless a module preference list such as {@link #modulePreferenceList()} decides between them.
+ */
+public class MultiModuleData implements ExampleWorkload {
+
+    private static final long CONCEPT_UUID_MSB = 0x4D4F_4455_4C45_5343L;
+    private static final long SEMANTIC_UUID_MSB = 0x4D4F_4455_4C45_5353L;
+    private static final long MODULE_UUID_MSB = 0x4D4F_4455_4C45_534DL;
+
+    private final long conceptCount;
+    private final EntityProxy.Concept[] modules;
+    private int overlayPercent = 10;
+
+    public MultiModuleData(long conceptCount, int syntheticModules) {
+        this.conceptCount = conceptCount;
+        EntityProxy.Concept[] existingModules = {SOLOR_MODULE, KOMET_MODULE, SANDBOX_MODULE, USERS_MODULE};
+        this.modules = new EntityProxy.Concept[existingModules.length + Math.max(0, syntheticModules)];
+        for (int m = 0; m < modules.length; m++) {
+            modules[m] = m < existingModules.length ? existingModules[m] : syntheticModule(m - existingModules.length);
+        }
+    }
+
+    /**
+     * Percentage of the concepts whose semantic also gets an overlay version in the next module. Defaults to 10.
+     */
+    public MultiModuleData overlayPercent(int overlayPercent) {
+        this.overlayPercent = Math.clamp(overlayPercent, 0, 100);
+        return this;
+    }
+
+    public static EntityProxy.Concept syntheticModule(int index) {
+        return EntityProxy.Concept.make("Synthetic Module " + index, new UUID(MODULE_UUID_MSB, index));
+    }
+
+    public static EntityProxy.Concept concept(long index) {
+        return EntityProxy.Concept.make("Multi-module Concept " + index, new UUID(CONCEPT_UUID_MSB, index));
+    }
+
+    public static EntityProxy.Semantic semantic(long index) {
+        return EntityProxy.Semantic.make("Multi-module Semantic " + index, new UUID(SEMANTIC_UUID_MSB, index));
+    }
+
+    /**
+     * All the modules the workload writes to, highest priority first: the synthetic modules in reverse order, then
+     * the users, sandbox, KOMET and SOLOR modules, so an overlay takes precedence over the module it overlays, except
+     * for the overlays the last synthetic module wraps around to SOLOR.
+     */
+    public EntityProxy.Concept[] modulePreferenceList() {
+        EntityProxy.Concept[] preferenceList = new EntityProxy.Concept[modules.length];
+        for (int m = 0; m < modules.length; m++) {
+            preferenceList[m] = modules[modules.length - 1 - m];
+        }
+        return preferenceList;
+    }
+
+    @Override
+    public void addTo(ParallelComposition composition, long stampTime) {
+        addSyntheticModules(composition, stampTime);
+        for (int m = 0; m < modules.length; m++) {
+            int moduleIndex = m;
+            composition.addRange(moduleSession(stampTime, moduleIndex), conceptsOfModule(moduleIndex), k -> {
+                long index = moduleIndex + k * modules.length;
+                return session -> composeConcept(session, index, moduleIndex);
+            });
+        }
+        // Overlays on the concepts of the previous module, once every module's concepts exist.
+        for (int m = 0; m < modules.length; m++) {
+            int moduleIndex = m;
+            int previousModule = Math.floorMod(moduleIndex - 1, modules.length);
+            composition.addRange(moduleSession(stampTime, moduleIndex), conceptsOfModule(previousModule), k -> {
+                long index = previousModule + k * modules.length;
+                return hasOverlay(index) ? session -> composeSemantic(session, index, moduleIndex) : null;
+            });
+        }
+    }
+
+    private long conceptsOfModule(int moduleIndex) {
+        return moduleIndex < conceptCount ? (conceptCount - moduleIndex + modules.length - 1) / modules.length : 0;
+    }
+
+    private Function<Composer, Session> moduleSession(long stampTime, int moduleIndex) {
+        return composer -> composer.open(State.ACTIVE, stampTime, USER, modules[moduleIndex], DEVELOPMENT_PATH);
+    }
+
+    private void addSyntheticModules(ParallelComposition composition, long stampTime) {
+        if (modules.length <= 4) {
+            return;
+        }
+        composition.add(composer -> composer.open(State.ACTIVE, stampTime, USER, DEVELOPMENT_MODULE, DEVELOPMENT_PATH),
+                session -> {
+                    for (int m = 4; m < modules.length; m++) {
+                        EntityProxy.Concept module = modules[m];
+                        session.compose((ConceptAssembler conceptAssembler) -> conceptAssembler.concept(module))
+                                .attach((FullyQualifiedName fqn) -> fqn
+                                        .text(module.description())
+                                        .language(ENGLISH_LANGUAGE)
+                                        .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                                        .attach(new USDialect().acceptability(PREFERRED)))
+                                .attach(new StatedNavigation()
+                                        .parents(MODULE))
+                                .attach(new StatedAxiom()
+                                        .isA(MODULE));
+                    }
+                });
+    }
+
+    private boolean hasOverlay(long index) {
+        return Math.floorMod(index * 0x9E3779B97F4A7C15L >>> 32, 100) < overlayPercent;
+    }
+
+    private void composeConcept(Session session, long index, int moduleIndex) {
+        EntityProxy.Concept concept = concept(index);
+        session.compose((ConceptAssembler conceptAssembler) -> conceptAssembler.concept(concept))
+                .attach((FullyQualifiedName fqn) -> fqn
+                        .text(concept.description())
+                        .language(ENGLISH_LANGUAGE)
+                        .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                        .attach(new USDialect().acceptability(PREFERRED)))
+                .attach(new StatedNavigation()
+                        .parents(SAMPLE_TINKAR_DATA))
+                .attach(new StatedAxiom()
+                        .isA(SAMPLE_TINKAR_DATA));
+        composeSemantic(session, index, moduleIndex);
+    }
+
+    private void composeSemantic(Session session, long index, int moduleIndex) {
+        session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                .semantic(semantic(index))
+                .pattern(EXAMPLE_PATTERN_ONE)
+                .reference(concept(index))
+                .fieldValues(objects -> objects.addAll(Lists.mutable.of(
+                        modules[moduleIndex].description(), (int) index, index / 4f, index % 2 == 0))));
+    }
+}
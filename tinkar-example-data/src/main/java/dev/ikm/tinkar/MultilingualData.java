@@ -0,0 +1,258 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.composer.Session;
+import dev.ikm.tinkar.composer.assembler.ConceptAssembler;
+import dev.ikm.tinkar.composer.assembler.PatternAssembler;
+import dev.ikm.tinkar.composer.assembler.SemanticAssembler;
+import dev.ikm.tinkar.composer.template.FullyQualifiedName;
+import dev.ikm.tinkar.composer.template.StatedAxiom;
+import dev.ikm.tinkar.composer.template.StatedNavigation;
+import dev.ikm.tinkar.composer.template.USDialect;
+import dev.ikm.tinkar.data.compose.ParallelComposition;
+import dev.ikm.tinkar.terms.EntityProxy;
+import dev.ikm.tinkar.terms.State;
+import org.eclipse.collections.api.factory.Lists;
+
+import java.util.Locale;
+import java.util.UUID;
+
+import static dev.ikm.tinkar.TinkarExampleData.SAMPLE_TINKAR_DATA;
+import static dev.ikm.tinkar.terms.TinkarTerm.ACCEPTABLE;
+import static dev.ikm.tinkar.terms.TinkarTerm.CHINESE_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.COMPONENT_FIELD;
+import static dev.ikm.tinkar.terms.TinkarTerm.CZECH_DIALECT;
+import static dev.ikm.tinkar.terms.TinkarTerm.CZECH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEFINITION_DESCRIPTION_TYPE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_ACCEPTABILITY;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_CASE_SENSITIVE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_INITIAL_CHARACTER_CASE_SENSITIVE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_NOT_CASE_SENSITIVE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_PATTERN;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_SEMANTIC;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.DIALECT_ASSEMBLAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.ENGLISH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.FRENCH_DIALECT;
+import static dev.ikm.tinkar.terms.TinkarTerm.FRENCH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.GB_DIALECT_PATTERN;
+import static dev.ikm.tinkar.terms.TinkarTerm.IRISH_DIALECT;
+import static dev.ikm.tinkar.terms.TinkarTerm.IRISH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.KOREAN_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.POLISH_DIALECT;
+import static dev.ikm.tinkar.terms.TinkarTerm.POLISH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.PREFERRED;
+import static dev.ikm.tinkar.terms.TinkarTerm.REGULAR_NAME_DESCRIPTION_TYPE;
+import static dev.ikm.tinkar.terms.TinkarTerm.RUSSIAN_DIALECT;
+import static dev.ikm.tinkar.terms.TinkarTerm.RUSSIAN_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.SPANISH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.STANDARD_KOREAN_DIALECT;
+import static dev.ikm.tinkar.terms.TinkarTerm.USER;
+import static dev.ikm.tinkar.terms.TinkarTerm.US_DIALECT_PATTERN;
+
+/**
+ * Concepts described in the starter data's languages, for measuring text storage, case significance handling and
+ * search index builds on realistic content. Besides an English fully qualified name, every concept gets a synonym and
+ * a long definition in each language, written in the language's own script. The case significance of the synonyms
+ * rotates, and case sensitive synonyms use mixed case. Each description has a dialect semantic: US and GB for
+ * English, and for the other languages a dialect pattern shaped like the US dialect pattern, which the workload
+ * creates for the language's dialect. Spanish and Chinese have no dialect concept in the starter data, so the
+ * workload creates those too.
+ */
+public class MultilingualData implements ExampleWorkload {
+
+    private static final long CONCEPT_UUID_MSB = 0x4D55_4C54_494C_4943L;
+    private static final long DESCRIPTION_UUID_MSB = 0x4D55_4C54_494C_4944L;
+    private static final long DESCRIPTION_DIALECT_UUID_MSB = 0x4D55_4C54_494C_4953L;
+    private static final long DIALECT_UUID_MSB = 0x4D55_4C54_494C_4941L;
+    private static final long DIALECT_PATTERN_UUID_MSB = 0x4D55_4C54_494C_4950L;
+
+    private record Language(EntityProxy.Concept concept, EntityProxy.Concept dialect, boolean createDialect,
+                            EntityProxy.Pattern dialectPattern, String separator, String[] words) {
+    }
+
+    private static final Language[] LANGUAGES = {
+            new Language(ENGLISH_LANGUAGE, null, false, US_DIALECT_PATTERN, " ",
+                    new String[]{"Heart", "Valve", "Chronic", "Inflammation", "Left", "Structure", "Disorder"}),
+            new Language(SPANISH_LANGUAGE, syntheticDialect(0, "Spanish dialect"), true, dialectPattern(0, "Spanish"), " ",
+                    new String[]{"Corazón", "Válvula", "Crónica", "Inflamación", "Izquierdo", "Estructura", "Trastorno"}),
+            new Language(KOREAN_LANGUAGE, STANDARD_KOREAN_DIALECT, false, dialectPattern(1, "Standard Korean"), " ",
+                    new String[]{"심장", "판막", "만성", "염증", "왼쪽", "구조", "장애"}),
+            new Language(CHINESE_LANGUAGE, syntheticDialect(1, "Chinese dialect"), true, dialectPattern(2, "Chinese"), "",
+                    new String[]{"心脏", "瓣膜", "慢性", "炎症", "左侧", "结构", "疾病"}),
+            new Language(RUSSIAN_LANGUAGE, RUSSIAN_DIALECT, false, dialectPattern(3, "Russian"), " ",
+                    new String[]{"Сердце", "Клапан", "Хронический", "Воспаление", "Левый", "Структура", "Расстройство"}),
+            new Language(CZECH_LANGUAGE, CZECH_DIALECT, false, dialectPattern(4, "Czech"), " ",
+                    new String[]{"Srdce", "Chlopeň", "Chronický", "Zánět", "Levý", "Struktura", "Porucha"}),
+            new Language(POLISH_LANGUAGE, POLISH_DIALECT, false, dialectPattern(5, "Polish"), " ",
+                    new String[]{"Serce", "Zastawka", "Przewlekły", "Zapalenie", "Lewy", "Struktura", "Zaburzenie"}),
+            new Language(FRENCH_LANGUAGE, FRENCH_DIALECT, false, dialectPattern(6, "French"), " ",
+                    new String[]{"Cœur", "Valve", "Chronique", "Inflammation", "Gauche", "Structure", "Trouble"}),
+            new Language(IRISH_LANGUAGE, IRISH_DIALECT, false, dialectPattern(7, "Irish"), " ",
+                    new String[]{"Croí", "Comhla", "Ainsealach", "Athlasadh", "Clé", "Struchtúr", "Neamhord"})
+    };
+
+    private final long conceptCount;
+    private int definitionLength = 2000;
+
+    public MultilingualData(long conceptCount) {
+        this.conceptCount = conceptCount;
+    }
+
+    /**
+     * Approximate length in characters of each definition. Defaults to 2,000.
+     */
+    public MultilingualData definitionLength(int definitionLength) {
+        this.definitionLength = Math.max(1, definitionLength);
+        return this;
+    }
+
+    public static EntityProxy.Concept concept(long index) {
+        return EntityProxy.Concept.make("Multilingual Concept " + index, new UUID(CONCEPT_UUID_MSB, index));
+    }
+
+    private static EntityProxy.Concept syntheticDialect(int index, String name) {
+        return EntityProxy.Concept.make(name, new UUID(DIALECT_UUID_MSB, index));
+    }
+
+    private static EntityProxy.Pattern dialectPattern(int index, String dialectName) {
+        return EntityProxy.Pattern.make(dialectName + " Dialect Pattern", new UUID(DIALECT_PATTERN_UUID_MSB, index));
+    }
+
+    @Override
+    public void addTo(ParallelComposition composition, long stampTime) {
+        composition.add(composer -> composer.open(State.ACTIVE, stampTime, USER, DEVELOPMENT_MODULE, DEVELOPMENT_PATH),
+                session -> {
+                    for (Language language : LANGUAGES) {
+                        composeDialectMetadata(session, language);
+                    }
+                });
+
+        // The names and long definitions are built while preparing, off the composing thread.
+        composition.addRange(composer -> composer.open(State.ACTIVE, stampTime, USER, DEVELOPMENT_MODULE, DEVELOPMENT_PATH),
+                conceptCount, index -> {
+                    String[] names = new String[LANGUAGES.length];
+                    String[] definitions = new String[LANGUAGES.length];
+                    for (int l = 0; l < LANGUAGES.length; l++) {
+                        names[l] = name(LANGUAGES[l], index);
+                        definitions[l] = definition(LANGUAGES[l], index);
+                    }
+                    return session -> composeConcept(session, index, names, definitions);
+                });
+    }
+
+    private static void composeDialectMetadata(Session session, Language language) {
+        if (language.dialect() == null) {
+            return;
+        }
+        if (language.createDialect()) {
+            session.compose((ConceptAssembler conceptAssembler) -> conceptAssembler.concept(language.dialect()))
+                    .attach((FullyQualifiedName fqn) -> fqn
+                            .text(language.dialect().description())
+                            .language(ENGLISH_LANGUAGE)
+                            .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                            .attach(new USDialect().acceptability(PREFERRED)))
+                    .attach(new StatedNavigation()
+                            .parents(DIALECT_ASSEMBLAGE))
+                    .attach(new StatedAxiom()
+                            .isA(DIALECT_ASSEMBLAGE));
+        }
+        session.compose((PatternAssembler patternAssembler) -> patternAssembler.pattern(language.dialectPattern())
+                        .meaning(DESCRIPTION_ACCEPTABILITY)
+                        .purpose(DESCRIPTION_SEMANTIC)
+                        .fieldDefinition(
+                                language.dialect(),
+                                DESCRIPTION_ACCEPTABILITY,
+                                COMPONENT_FIELD))
+                .attach((FullyQualifiedName fqn) -> fqn
+                        .text(language.dialectPattern().description())
+                        .language(ENGLISH_LANGUAGE)
+                        .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                        .attach(new USDialect().acceptability(PREFERRED)));
+    }
+
+    private static void composeConcept(Session session, long index, String[] names, String[] definitions) {
+        EntityProxy.Concept concept = concept(index);
+        session.compose((ConceptAssembler conceptAssembler) -> conceptAssembler.concept(concept))
+                .attach((FullyQualifiedName fqn) -> fqn
+                        .text(concept.description())
+                        .language(ENGLISH_LANGUAGE)
+                        .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                        .attach(new USDialect().acceptability(PREFERRED)))
+                .attach(new StatedNavigation()
+                        .parents(SAMPLE_TINKAR_DATA))
+                .attach(new StatedAxiom()
+                        .isA(SAMPLE_TINKAR_DATA));
+
+        for (int l = 0; l < LANGUAGES.length; l++) {
+            Language language = LANGUAGES[l];
+            long descriptionIndex = (index * LANGUAGES.length + l) * 2;
+            EntityProxy.Concept caseSignificance = switch ((int) ((index + l) % 3)) {
+                case 0 -> DESCRIPTION_NOT_CASE_SENSITIVE;
+                case 1 -> DESCRIPTION_CASE_SENSITIVE;
+                default -> DESCRIPTION_INITIAL_CHARACTER_CASE_SENSITIVE;
+            };
+            String name = names[l];
+            composeDescription(session, concept, language, descriptionIndex,
+                    caseSignificance == DESCRIPTION_CASE_SENSITIVE ? mixedCase(name) : name,
+                    caseSignificance, REGULAR_NAME_DESCRIPTION_TYPE, PREFERRED);
+            composeDescription(session, concept, language, descriptionIndex + 1, definitions[l],
+                    DESCRIPTION_NOT_CASE_SENSITIVE, DEFINITION_DESCRIPTION_TYPE, ACCEPTABLE);
+        }
+    }
+
+    private static void composeDescription(Session session, EntityProxy.Concept concept, Language language,
+                                           long descriptionIndex, String text, EntityProxy.Concept caseSignificance,
+                                           EntityProxy.Concept descriptionType, EntityProxy.Concept acceptability) {
+        EntityProxy.Semantic description = EntityProxy.Semantic.make("Multilingual Description " + descriptionIndex,
+                new UUID(DESCRIPTION_UUID_MSB, descriptionIndex));
+        session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                .semantic(description)
+                .pattern(DESCRIPTION_PATTERN)
+                .reference(concept)
+                .fieldValues(objects -> objects.addAll(Lists.mutable.of(
+                        language.concept(), text, caseSignificance, descriptionType))));
+        composeDialect(session, description, 2 * descriptionIndex, language.dialectPattern(), acceptability);
+        if (language.concept() == ENGLISH_LANGUAGE) {
+            composeDialect(session, description, 2 * descriptionIndex + 1, GB_DIALECT_PATTERN, acceptability);
+        }
+    }
+
+    private static void composeDialect(Session session, EntityProxy.Semantic description, long dialectIndex,
+                                       EntityProxy.Pattern dialectPattern, EntityProxy.Concept acceptability) {
+        session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                .semantic(EntityProxy.Semantic.make("Multilingual Dialect " + dialectIndex,
+                        new UUID(DESCRIPTION_DIALECT_UUID_MSB, dialectIndex)))
+                .pattern(dialectPattern)
+                .reference(description)
+                .fieldValues(objects -> objects.add(acceptability)));
+    }
+
+    private static String name(Language language, long index) {
+        String[] words = language.words();
+        return words[(int) (index % words.length)] + language.separator()
+                + words[(int) (index / words.length % words.length)] + language.separator()
+                + words[(int) (index / words.length / words.length % words.length)] + " " + index;
+    }
+
+    private String definition(Language language, long index) {
+        String[] words = language.words();
+        StringBuilder definition = new StringBuilder(definitionLength + 16);
+        for (long w = index; definition.length() < definitionLength; w++) {
+            if (!definition.isEmpty()) {
+                definition.append(language.separator().isEmpty() ? "，" : ", ");
+            }
+            definition.append(words[(int) (w % words.length)].toLowerCase(Locale.ROOT));
+        }
+        return definition.append('.').toString();
+    }
+
+    private static String mixedCase(String text) {
+        StringBuilder mixed = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            mixed.append(i % 2 == 0 ? Character.toUpperCase(c) : Character.toLowerCase(c));
+        }
+        return mixed.toString();
+    }
+}
@@ -0,0 +1,173 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.common.id.IntIds;
+import dev.ikm.tinkar.composer.Session;
+import dev.ikm.tinkar.composer.assembler.ConceptAssembler;
+import dev.ikm.tinkar.composer.assembler.SemanticAssembler;
+import dev.ikm.tinkar.composer.template.Definition;
+import dev.ikm.tinkar.composer.template.FullyQualifiedName;
+import dev.ikm.tinkar.composer.template.Identifier;
+import dev.ikm.tinkar.composer.template.StatedAxiom;
+import dev.ikm.tinkar.composer.template.StatedNavigation;
+import dev.ikm.tinkar.composer.template.Synonym;
+import dev.ikm.tinkar.composer.template.USDialect;
+import dev.ikm.tinkar.data.compose.ParallelComposition;
+import dev.ikm.tinkar.terms.EntityProxy;
+import dev.ikm.tinkar.terms.State;
+import org.eclipse.collections.api.factory.Lists;
+
+import java.util.UUID;
+
+import static dev.ikm.tinkar.TinkarExampleData.EXAMPLE_PATTERN_ONE;
+import static dev.ikm.tinkar.TinkarExampleData.EXAMPLE_PATTERN_TWO;
+import static dev.ikm.tinkar.TinkarExampleData.SAMPLE_TINKAR_DATA;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_NOT_CASE_SENSITIVE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.ENGLISH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.PREFERRED;
+import static dev.ikm.tinkar.terms.TinkarTerm.UNIVERSALLY_UNIQUE_IDENTIFIER;
+import static dev.ikm.tinkar.terms.TinkarTerm.USER;
+
+/**
+ * Synthetic concepts shaped like the example data's: each concept has its descriptions with a US dialect, an
+ * identifier, stated navigation and a stated axiom under Tinkar Sample Data, and is referenced by a number of
+ * semantics of the two example patterns. Concept and semantic public ids are derived from their index, so repeated
+ * runs produce the same components.
+ */
+public class ScaleOutData implements ExampleWorkload {
+
+    private static final long UUID_MSB = 0x5343_414C_454F_5554L;
+    private static final long SEMANTIC_UUID_MSB = 0x5343_414C_4553_454DL;
+
+    private final long conceptCount;
+    private int descriptionsPerConcept = 3;
+    private int semanticsPerConcept = 1;
+    private int patternTwoPercent = 50;
+
+    public ScaleOutData(long conceptCount) {
+        this.conceptCount = conceptCount;
+    }
+
+    /**
+     * Descriptions per concept: a fully qualified name, a synonym, a definition and then additional synonyms.
+     * Defaults to three.
+     */
+    public ScaleOutData descriptionsPerConcept(int descriptionsPerConcept) {
+        this.descriptionsPerConcept = Math.max(1, descriptionsPerConcept);
+        return this;
+    }
+
+    /**
+     * Example pattern semantics referencing each concept. Defaults to one.
+     */
+    public ScaleOutData semanticsPerConcept(int semanticsPerConcept) {
+        this.semanticsPerConcept = Math.max(0, semanticsPerConcept);
+        return this;
+    }
+
+    /**
+     * Percentage of the semantics that use Tinkar Semantic Test Pattern 2 (component, component set and component
+     * list fields) instead of Pattern 1 (string, integer, float and boolean fields). Defaults to 50.
+     */
+    public ScaleOutData patternTwoPercent(int patternTwoPercent) {
+        this.patternTwoPercent = Math.clamp(patternTwoPercent, 0, 100);
+        return this;
+    }
+
+    /**
+     * Components composed per concept: the concept, each description and its dialect, the identifier, stated
+     * navigation and stated axiom, and the semantics.
+     */
+    public long componentsPerConcept() {
+        return 1 + 2L * descriptionsPerConcept + 3 + semanticsPerConcept;
+    }
+
+    public static EntityProxy.Concept concept(long index) {
+        return EntityProxy.Concept.make("Scale-out Concept " + index, new UUID(UUID_MSB, index));
+    }
+
+    public static EntityProxy.Semantic semantic(long semanticIndex) {
+        return EntityProxy.Semantic.make("Scale-out Semantic " + semanticIndex, new UUID(SEMANTIC_UUID_MSB, semanticIndex));
+    }
+
+    @Override
+    public void addTo(ParallelComposition composition, long stampTime) {
+        composition.addRange(composer -> composer.open(State.ACTIVE, stampTime, USER, DEVELOPMENT_MODULE, DEVELOPMENT_PATH),
+                conceptCount, index -> {
+                    EntityProxy.Concept concept = concept(index);
+                    return session -> composeConcept(session, concept, index);
+                });
+    }
+
+    private void composeConcept(Session session, EntityProxy.Concept concept, long index) {
+        var attachable = session.compose((ConceptAssembler conceptAssembler) -> conceptAssembler.concept(concept));
+        for (int d = 0; d < descriptionsPerConcept; d++) {
+            String text = concept.description() + (d < 3 ? "" : " " + d);
+            switch (d) {
+                case 0 -> attachable.attach((FullyQualifiedName fqn) -> fqn
+                        .text(text)
+                        .language(ENGLISH_LANGUAGE)
+                        .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                        .attach(usDialect()));
+                case 2 -> attachable.attach((Definition definition) -> definition
+                        .text("A synthetic concept for load testing: " + text)
+                        .language(ENGLISH_LANGUAGE)
+                        .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                        .attach(usDialect()));
+                default -> attachable.attach((Synonym synonym) -> synonym
+                        .text(text)
+                        .language(ENGLISH_LANGUAGE)
+                        .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                        .attach(usDialect()));
+            }
+        }
+        attachable.attach((Identifier identifier) -> identifier
+                .source(UNIVERSALLY_UNIQUE_IDENTIFIER)
+                .identifier(concept.asUuidArray()[0].toString()));
+        attachable.attach(new StatedNavigation()
+                .parents(SAMPLE_TINKAR_DATA));
+        attachable.attach(new StatedAxiom()
+                .isA(SAMPLE_TINKAR_DATA));
+
+        for (int s = 0; s < semanticsPerConcept; s++) {
+            long semanticIndex = index * semanticsPerConcept + s;
+            if (semanticIndex % 100 < patternTwoPercent) {
+                composePatternTwoSemantic(session, concept, semanticIndex);
+            } else {
+                composePatternOneSemantic(session, concept, semanticIndex);
+            }
+        }
+    }
+
+    private static void composePatternOneSemantic(Session session, EntityProxy.Concept concept, long semanticIndex) {
+        session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                .semantic(semantic(semanticIndex))
+                .pattern(EXAMPLE_PATTERN_ONE)
+                .reference(concept)
+                .fieldValues(objects -> objects.addAll(Lists.mutable.of(
+                        "Scale-out String " + semanticIndex, (int) semanticIndex, semanticIndex / 4f, semanticIndex % 2 == 0))));
+    }
+
+    private void composePatternTwoSemantic(Session session, EntityProxy.Concept concept, long semanticIndex) {
+        // Reference the two preceding concepts, which are already composed. The first concepts have fewer
+        // predecessors and use the sample concept and themselves instead, so the two members always differ.
+        long index = semanticIndex / semanticsPerConcept;
+        int previous = index > 0 ? concept(index - 1).nid() : SAMPLE_TINKAR_DATA.nid();
+        int beforePrevious = index > 1 ? concept(index - 2).nid() : concept.nid();
+        session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                .semantic(semantic(semanticIndex))
+                .pattern(EXAMPLE_PATTERN_TWO)
+                .reference(concept)
+                .fieldValues(objects -> objects.addAll(Lists.mutable.of(
+                        SAMPLE_TINKAR_DATA,
+                        IntIds.set.of(previous, beforePrevious),
+                        semanticIndex % 2 == 0
+                                ? IntIds.list.of(previous, beforePrevious, previous)
+                                : IntIds.list.of(beforePrevious, previous, beforePrevious)))));
+    }
+
+    private static USDialect usDialect() {
+        return new USDialect().acceptability(PREFERRED);
+    }
+}
@@ -0,0 +1,99 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.composer.Composer;
+import dev.ikm.tinkar.composer.Session;
+import dev.ikm.tinkar.composer.assembler.ConceptAssembler;
+import dev.ikm.tinkar.composer.assembler.SemanticAssembler;
+import dev.ikm.tinkar.composer.template.FullyQualifiedName;
+import dev.ikm.tinkar.composer.template.StatedAxiom;
+import dev.ikm.tinkar.composer.template.StatedNavigation;
+import dev.ikm.tinkar.composer.template.USDialect;
+import dev.ikm.tinkar.data.compose.ParallelComposition;
+import dev.ikm.tinkar.terms.EntityProxy;
+import dev.ikm.tinkar.terms.State;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+import static dev.ikm.tinkar.TinkarExampleData.EXAMPLE_PATTERN_ONE;
+import static dev.ikm.tinkar.TinkarExampleData.SAMPLE_TINKAR_DATA;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_NOT_CASE_SENSITIVE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.ENGLISH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.PREFERRED;
+import static dev.ikm.tinkar.terms.TinkarTerm.USER;
+
+/**
+ * Many Tinkar Semantic Test Pattern 1 semantics referencing a few concepts, for load testing per-component semantic
+ * lists and pattern-scoped iteration. The semantics are spread over the referenced concepts in turn, so a million
+ * semantics over the default ten concepts give each concept a hundred thousand.
+ */
+public class SemanticFanOutData implements ExampleWorkload {
+
+    private static final long CONCEPT_UUID_MSB = 0x4641_4E4F_5554_4343L;
+    private static final long SEMANTIC_UUID_MSB = 0x4641_4E4F_5554_5353L;
+
+    private final long semanticCount;
+    private int referencedConcepts = 10;
+
+    public SemanticFanOutData(long semanticCount) {
+        this.semanticCount = semanticCount;
+    }
+
+    /**
+     * Concepts the semantics reference. Defaults to ten.
+     */
+    public SemanticFanOutData referencedConcepts(int referencedConcepts) {
+        this.referencedConcepts = Math.max(1, referencedConcepts);
+        return this;
+    }
+
+    public static EntityProxy.Concept concept(int index) {
+        return EntityProxy.Concept.make("Fan-out Concept " + index, new UUID(CONCEPT_UUID_MSB, index));
+    }
+
+    public static EntityProxy.Semantic semantic(long index) {
+        return EntityProxy.Semantic.make("Fan-out Semantic " + index, new UUID(SEMANTIC_UUID_MSB, index));
+    }
+
+    @Override
+    public void addTo(ParallelComposition composition, long stampTime) {
+        Function<Composer, Session> sessionOpener =
+                composer -> composer.open(State.ACTIVE, stampTime, USER, DEVELOPMENT_MODULE, DEVELOPMENT_PATH);
+        composition.addRange(sessionOpener, referencedConcepts, index -> {
+            EntityProxy.Concept concept = concept((int) index);
+            return session -> composeConcept(session, concept);
+        });
+        EntityProxy.Concept[] concepts = new EntityProxy.Concept[referencedConcepts];
+        for (int c = 0; c < referencedConcepts; c++) {
+            concepts[c] = concept(c);
+        }
+        composition.addRange(sessionOpener, semanticCount, index -> {
+            EntityProxy.Semantic semantic = semantic(index);
+            EntityProxy.Concept concept = concepts[(int) (index % referencedConcepts)];
+            MutableList<Object> fieldValues = Lists.mutable.of(
+                    "Fan-out String " + index, (int) index, index / 4f, index % 2 == 0);
+            return session -> session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                    .semantic(semantic)
+                    .pattern(EXAMPLE_PATTERN_ONE)
+                    .reference(concept)
+                    .fieldValues(objects -> objects.addAll(fieldValues)));
+        });
+    }
+
+    private static void composeConcept(Session session, EntityProxy.Concept concept) {
+        session.compose((ConceptAssembler conceptAssembler) -> conceptAssembler.concept(concept))
+                .attach((FullyQualifiedName fqn) -> fqn
+                        .text(concept.description())
+                        .language(ENGLISH_LANGUAGE)
+                        .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                        .attach(new USDialect().acceptability(PREFERRED)))
+                .attach(new StatedNavigation()
+                        .parents(SAMPLE_TINKAR_DATA))
+                .attach(new StatedAxiom()
+                        .isA(SAMPLE_TINKAR_DATA));
+    }
+}
@@ -0,0 +1,166 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.composer.Session;
+import dev.ikm.tinkar.composer.assembler.ConceptAssembler;
+import dev.ikm.tinkar.composer.template.FullyQualifiedName;
+import dev.ikm.tinkar.composer.template.StatedAxiom;
+import dev.ikm.tinkar.composer.template.StatedNavigation;
+import dev.ikm.tinkar.composer.template.USDialect;
+import dev.ikm.tinkar.data.compose.ParallelComposition;
+import dev.ikm.tinkar.terms.EntityProxy;
+import dev.ikm.tinkar.terms.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static dev.ikm.tinkar.TinkarExampleData.SAMPLE_TINKAR_DATA;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_NOT_CASE_SENSITIVE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.ENGLISH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.PREFERRED;
+import static dev.ikm.tinkar.terms.TinkarTerm.USER;
+
+/**
+ * A taxonomy under Tinkar Sample Data for navigation benchmarks: a tree of the given depth and fan-out, numbered
+ * breadth first, in which a percentage of the nodes also get a second parent, the sibling of their first parent,
+ * turning the tree into a DAG. Every node has a fully qualified name and stated navigation and stated axiom semantics
+ * that agree with each other. Parents and children are computed from the node index, so nothing is kept in memory
+ * while generating.
+ */
+public class TaxonomyData implements ExampleWorkload {
+
+    private static final long UUID_MSB = 0x5441_584F_4E4F_4D59L;
+
+    private final long nodeCount;
+    private final int fanOut;
+    private final long[] levelStarts;
+    private int multiParentPercent;
+
+    /**
+     * @param maxNodes upper bound on the number of nodes; the deepest level is cut off when the full tree is larger
+     */
+    public TaxonomyData(int depth, int fanOut, long maxNodes) {
+        this.fanOut = Math.max(1, fanOut);
+        List<Long> starts = new ArrayList<>();
+        long start = 0;
+        long levelSize = 1;
+        for (int level = 0; level <= depth && start < maxNodes; level++) {
+            starts.add(start);
+            start += levelSize;
+            levelSize = Math.multiplyExact(levelSize, this.fanOut);
+        }
+        starts.add(start);
+        this.levelStarts = starts.stream().mapToLong(Long::longValue).toArray();
+        this.nodeCount = Math.min(start, maxNodes);
+    }
+
+    /**
+     * Percentage of the nodes below the second level that also get the sibling of their parent as a parent.
+     */
+    public TaxonomyData multiParentPercent(int multiParentPercent) {
+        this.multiParentPercent = Math.clamp(multiParentPercent, 0, 100);
+        return this;
+    }
+
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    public static EntityProxy.Concept node(long index) {
+        return EntityProxy.Concept.make("Taxonomy Node " + index, new UUID(UUID_MSB, index));
+    }
+
+    @Override
+    public void addTo(ParallelComposition composition, long stampTime) {
+        // Parents and children are computed while preparing, so only composing is left for the composing thread.
+        composition.addRange(composer -> composer.open(State.ACTIVE, stampTime, USER, DEVELOPMENT_MODULE, DEVELOPMENT_PATH),
+                nodeCount, index -> {
+                    EntityProxy.Concept node = node(index);
+                    EntityProxy.Concept[] parents = parents(index);
+                    EntityProxy.Concept[] children = children(index);
+                    return session -> composeNode(session, node, parents, children);
+                });
+    }
+
+    private static void composeNode(Session session, EntityProxy.Concept node, EntityProxy.Concept[] parents,
+                                    EntityProxy.Concept[] children) {
+        var attachable = session.compose((ConceptAssembler conceptAssembler) -> conceptAssembler.concept(node));
+        attachable.attach((FullyQualifiedName fqn) -> fqn
+                .text(node.description())
+                .language(ENGLISH_LANGUAGE)
+                .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                .attach(new USDialect().acceptability(PREFERRED)));
+        StatedNavigation statedNavigation = new StatedNavigation();
+        if (children.length > 0) {
+            statedNavigation = statedNavigation.children(children);
+        }
+        attachable.attach(statedNavigation.parents(parents));
+        attachable.attach(new StatedAxiom()
+                .isA(parents));
+    }
+
+    private EntityProxy.Concept[] parents(long index) {
+        if (index == 0) {
+            return new EntityProxy.Concept[]{SAMPLE_TINKAR_DATA};
+        }
+        long parent = parent(index);
+        if (hasSecondParent(index)) {
+            long secondParent = nextInLevel(parent);
+            if (secondParent != parent) {
+                return new EntityProxy.Concept[]{node(parent), node(secondParent)};
+            }
+        }
+        return new EntityProxy.Concept[]{node(parent)};
+    }
+
+    private EntityProxy.Concept[] children(long index) {
+        List<EntityProxy.Concept> children = new ArrayList<>();
+        for (long child = firstChild(index); child < firstChild(index) + fanOut && child < nodeCount; child++) {
+            children.add(node(child));
+        }
+        // Nodes whose second parent is this node are children of the previous node in this level.
+        long previous = previousInLevel(index);
+        if (previous != index) {
+            for (long child = firstChild(previous); child < firstChild(previous) + fanOut && child < nodeCount; child++) {
+                if (hasSecondParent(child)) {
+                    children.add(node(child));
+                }
+            }
+        }
+        return children.toArray(EntityProxy.Concept[]::new);
+    }
+
+    private boolean hasSecondParent(long index) {
+        return level(index) >= 2 && Math.floorMod(index * 0x9E3779B97F4A7C15L >>> 32, 100) < multiParentPercent;
+    }
+
+    private int level(long index) {
+        int level = 0;
+        while (level + 1 < levelStarts.length && levelStarts[level + 1] <= index) {
+            level++;
+        }
+        return level;
+    }
+
+    private long parent(long index) {
+        int level = level(index);
+        return levelStarts[level - 1] + (index - levelStarts[level]) / fanOut;
+    }
+
+    private long firstChild(long index) {
+        int level = level(index);
+        return level + 1 < levelStarts.length ? levelStarts[level + 1] + (index - levelStarts[level]) * fanOut : nodeCount;
+    }
+
+    private long nextInLevel(long index) {
+        int level = level(index);
+        return index + 1 < levelStarts[level + 1] ? index + 1 : levelStarts[level];
+    }
+
+    private long previousInLevel(long index) {
+        int level = level(index);
+        return index > levelStarts[level] ? index - 1 : levelStarts[level + 1] - 1;
+    }
+}
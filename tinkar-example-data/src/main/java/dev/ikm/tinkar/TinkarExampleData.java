@@ -18,7 +18,12 @@ import dev.ikm.tinkar.composer.template.StatedAxiom;
 import dev.ikm.tinkar.composer.template.StatedNavigation;
 import dev.ikm.tinkar.composer.template.Synonym;
 import dev.ikm.tinkar.composer.template.USDialect;
-import dev.ikm.tinkar.entity.EntityService;
+import dev.ikm.tinkar.data.compose.ExportEvent;
+import dev.ikm.tinkar.data.compose.GenerationReport;
+import dev.ikm.tinkar.data.compose.LoadPhaseEvent;
+import dev.ikm.tinkar.data.compose.ParallelComposition;
+import dev.ikm.tinkar.data.compose.ReproducibleExport;
+import dev.ikm.tinkar.data.compose.StoreLifecycleEvent;
 import dev.ikm.tinkar.entity.export.ExportEntitiesController;
 import dev.ikm.tinkar.terms.EntityProxy;
 import dev.ikm.tinkar.terms.State;
@@ -27,8 +32,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static dev.ikm.tinkar.terms.TinkarTerm.BOOLEAN_FIELD;
 import static dev.ikm.tinkar.terms.TinkarTerm.COMPONENT_FIELD;
@@ -52,12 +66,156 @@ public class TinkarExampleData {
     private final File exportFile;
     private final File datastore;
 
-    private Session session;
-    private EntityProxy.Concept SAMPLE_TINKAR_DATA;
+    static final EntityProxy.Concept SAMPLE_TINKAR_DATA = EntityProxy.Concept.make("Tinkar Sample Data", UUID.fromString("67af3d9d-2d32-4036-9861-c052f3174134"));
+    static final EntityProxy.Pattern EXAMPLE_PATTERN_ONE = EntityProxy.Pattern.make("Tinkar Semantic Test Pattern 1", UUID.fromString("6604faf6-e914-49ca-a354-126f619f31ca"));
+    static final EntityProxy.Pattern EXAMPLE_PATTERN_TWO = EntityProxy.Pattern.make("Tinkar Semantic Test Pattern 2", UUID.fromString("7222d538-9641-474a-94ce-72c5bf6462b3"));
 
+    /**
+     * Chunk size for workloads when none is set, so they never hold more than this many components uncommitted.
+     */
+    private static final int DEFAULT_WORKLOAD_CHUNK_SIZE = 10_000;
+
+    /**
+     * The {@code option=value} keys the command line accepts.
+     */
+    private static final List<String> OPTIONS = List.of("chunkSize", "parallelism",
+            "concepts", "descriptionsPerConcept", "semanticsPerConcept", "patternTwoPercent",
+            "taxonomyDepth", "taxonomyFanOut", "taxonomyMaxNodes", "taxonomyMultiParentPercent",
+            "versionedConcepts", "versions", "versionAuthors", "versionRetiredPercent",
+            "branchingConcepts", "branchingEditRounds",
+            "moduleConcepts", "syntheticModules", "moduleOverlayPercent",
+            "fanOutSemantics", "fanOutConcepts",
+            "collectionSemantics", "collectionSize",
+            "multilingualConcepts", "multilingualDefinitionLength");
+
+    private long stampTime;
+    private int parallelism;
+    private int chunkSize;
+    private Instant outputTimestamp;
+    private final List<ExampleWorkload> workloads = new ArrayList<>();
+
+    /**
+     * {@code <datastore> <exportFile> [outputTimestamp] [option=value ...]}, where the options add load testing
+     * workloads:
+     * <ul>
+     *     <li>{@code concepts}, {@code descriptionsPerConcept}, {@code semanticsPerConcept},
+     *     {@code patternTwoPercent}: {@link ScaleOutData}</li>
+     *     <li>{@code taxonomyDepth}, {@code taxonomyFanOut}, {@code taxonomyMultiParentPercent},
+     *     {@code taxonomyMaxNodes}: {@link TaxonomyData}</li>
+     *     <li>{@code versionedConcepts}, {@code versions}, {@code versionAuthors}, {@code versionRetiredPercent}:
+     *     {@link VersionHistoryData}</li>
+     *     <li>{@code branchingConcepts}, {@code branchingEditRounds}: {@link BranchingData}</li>
+     *     <li>{@code moduleConcepts}, {@code syntheticModules}, {@code moduleOverlayPercent}:
+     *     {@link MultiModuleData}</li>
+     *     <li>{@code fanOutSemantics}, {@code fanOutConcepts}: {@link SemanticFanOutData}</li>
+     *     <li>{@code collectionSemantics}, {@code collectionSize}: {@link LargeNidCollectionData}</li>
+     *     <li>{@code multilingualConcepts}, {@code multilingualDefinitionLength}: {@link MultilingualData}</li>
+     *     <li>{@code chunkSize}: commit every this many components</li>
+     *     <li>{@code parallelism}: see {@link #setParallelism}</li>
+     * </ul>
+     * Any other option is rejected with an {@link IllegalArgumentException} that lists the valid ones.
+     */
     public TinkarExampleData(String[] args) {
         datastore = new File(args[0]);
         exportFile = new File(args[1]);
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 2; i < args.length; i++) {
+            int separator = args[i].indexOf('=');
+            if (separator > 0) {
+                options.put(args[i].substring(0, separator), args[i].substring(separator + 1));
+            } else {
+                ReproducibleExport.parseOutputTimestamp(args[i]).ifPresent(this::setOutputTimestamp);
+            }
+        }
+        applyOptions(options);
+    }
+
+    private void applyOptions(Map<String, String> options) {
+        for (String name : options.keySet()) {
+            if (!OPTIONS.contains(name)) {
+                throw new IllegalArgumentException("Unknown option " + name + "; valid options are "
+                        + String.join(", ", OPTIONS));
+            }
+        }
+        if (options.containsKey("chunkSize")) {
+            setChunkSize(Integer.parseInt(options.get("chunkSize")));
+        }
+        if (options.containsKey("parallelism")) {
+            setParallelism(Integer.parseInt(options.get("parallelism")));
+        }
+        if (options.containsKey("concepts")) {
+            addWorkload(new ScaleOutData(Long.parseLong(options.get("concepts")))
+                    .descriptionsPerConcept(Integer.parseInt(options.getOrDefault("descriptionsPerConcept", "3")))
+                    .semanticsPerConcept(Integer.parseInt(options.getOrDefault("semanticsPerConcept", "1")))
+                    .patternTwoPercent(Integer.parseInt(options.getOrDefault("patternTwoPercent", "50"))));
+        }
+        if (options.containsKey("taxonomyDepth")) {
+            addWorkload(new TaxonomyData(Integer.parseInt(options.get("taxonomyDepth")),
+                    Integer.parseInt(options.getOrDefault("taxonomyFanOut", "10")),
+                    Long.parseLong(options.getOrDefault("taxonomyMaxNodes", "1000000")))
+                    .multiParentPercent(Integer.parseInt(options.getOrDefault("taxonomyMultiParentPercent", "0"))));
+        }
+        if (options.containsKey("versionedConcepts")) {
+            addWorkload(new VersionHistoryData(Long.parseLong(options.get("versionedConcepts")),
+                    Integer.parseInt(options.getOrDefault("versions", "10")))
+                    .authorCount(Integer.parseInt(options.getOrDefault("versionAuthors", "2")))
+                    .retiredPercent(Integer.parseInt(options.getOrDefault("versionRetiredPercent", "10"))));
+        }
+        if (options.containsKey("branchingConcepts")) {
+            addWorkload(new BranchingData(Long.parseLong(options.get("branchingConcepts")))
+                    .editRounds(Integer.parseInt(options.getOrDefault("branchingEditRounds", "3"))));
+        }
+        if (options.containsKey("moduleConcepts")) {
+            addWorkload(new MultiModuleData(Long.parseLong(options.get("moduleConcepts")),
+                    Integer.parseInt(options.getOrDefault("syntheticModules", "4")))
+                    .overlayPercent(Integer.parseInt(options.getOrDefault("moduleOverlayPercent", "10"))));
+        }
+        if (options.containsKey("fanOutSemantics")) {
+            addWorkload(new SemanticFanOutData(Long.parseLong(options.get("fanOutSemantics")))
+                    .referencedConcepts(Integer.parseInt(options.getOrDefault("fanOutConcepts", "10"))));
+        }
+        if (options.containsKey("collectionSemantics")) {
+            addWorkload(new LargeNidCollectionData(Long.parseLong(options.get("collectionSemantics")),
+                    Integer.parseInt(options.getOrDefault("collectionSize", "100000"))));
+        }
+        if (options.containsKey("multilingualConcepts")) {
+            addWorkload(new MultilingualData(Long.parseLong(options.get("multilingualConcepts")))
+                    .definitionLength(Integer.parseInt(options.getOrDefault("multilingualDefinitionLength", "2000"))));
+        }
+    }
+
+    /**
+     * Composes {@code workload} after the example data, in chunks of {@code chunkSize} components, or 10,000 when no
+     * chunk size is set.
+     */
+    public void addWorkload(ExampleWorkload workload) {
+        workloads.add(workload);
+    }
+
+    /**
+     * Prepares the components of the example data and its workloads on up to {@code parallelism} virtual threads
+     * while earlier components are composed. Zero, the default, prepares them on the calling thread. Components are
+     * composed and committed in the order they were added, so the STAMPs, nids and export are the same for any
+     * parallelism.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Commits the session every {@code chunkSize} composed components instead of once at the end. Zero, the
+     * default, commits once.
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Makes the export byte-for-byte reproducible: the STAMP time is {@code outputTimestamp} instead of the current
+     * time, entities are written in a fixed order and every zip entry carries {@code outputTimestamp}.
+     */
+    public void setOutputTimestamp(Instant outputTimestamp) {
+        this.outputTimestamp = outputTimestamp;
     }
 
     private void init() {
@@ -66,42 +224,48 @@ public class TinkarExampleData {
         CachingService.clearAll();
         ServiceProperties.set(ServiceKeys.DATA_STORE_ROOT, datastore);
         PrimitiveData.selectControllerByName("Open SpinedArrayStore");
-        PrimitiveData.start();
+        StoreLifecycleEvent.record("start", PrimitiveData::start);
     }
 
     public void transform() {
-        EntityService.get().beginLoadPhase();
-        try {
+        LoadPhaseEvent.run(() -> {
             Composer composer = new Composer("Tinkar Example Data Composer");
-            session = composer.open(
-                    State.ACTIVE,
-                    System.currentTimeMillis(),
-                    USER,
-                    DEVELOPMENT_MODULE,
-                    DEVELOPMENT_PATH);
-
-            createData();
-
-            composer.commitSession(session);
-        } finally {
-            EntityService.get().endLoadPhase();
-        }
+            stampTime = outputTimestamp != null ? outputTimestamp.toEpochMilli() : System.currentTimeMillis();
+            int workloadChunkSize = chunkSize > 0 ? chunkSize : DEFAULT_WORKLOAD_CHUNK_SIZE;
+            ParallelComposition composition = new ParallelComposition(composer, workloadChunkSize);
+
+            Function<Composer, Session> sessionOpener = this::openSession;
+            composition.addGroup(sessionOpener, chunkSize, () -> List.<Consumer<Session>>of(
+                    this::createSampleConcept,
+                    this::createPatternOne,
+                    this::createPatternTwo));
+
+            for (ExampleWorkload workload : workloads) {
+                workload.addTo(composition, stampTime);
+            }
+            composition.composeAndCommit(parallelism);
+        });
     }
 
-    private void createData() {
-        SAMPLE_TINKAR_DATA = createConcept("Tinkar Sample Data", "67af3d9d-2d32-4036-9861-c052f3174134", TINKAR_MODEL_CONCEPT);
+    private Session openSession(Composer composer) {
+        return composer.open(
+                State.ACTIVE,
+                stampTime,
+                USER,
+                DEVELOPMENT_MODULE,
+                DEVELOPMENT_PATH);
+    }
 
-        createPatternOne();
-        createPatternTwo();
+    private void createSampleConcept(Session session) {
+        createConcept(session, SAMPLE_TINKAR_DATA, TINKAR_MODEL_CONCEPT);
     }
 
-    private void createPatternOne() {
-        EntityProxy.Pattern EXAMPLE_PATTERN_ONE = EntityProxy.Pattern.make("Tinkar Semantic Test Pattern 1", UUID.fromString("6604faf6-e914-49ca-a354-126f619f31ca"));
-        EntityProxy.Concept EXAMPLE_MEANING = createConcept("A test pattern for primitive data types", "ad6f4fdd-fee8-45db-a207-111dc4c939a9");
-        EntityProxy.Concept STRING_FIELD_MEANING = createConcept("An example String field", "c39286ba-55ed-4009-b7e1-48519fbd0e0a");
-        EntityProxy.Concept INTEGER_FIELD_MEANING = createConcept("An example Integer field", "38bcb9c6-cdce-4b02-a1bd-d976e3065b8a");
-        EntityProxy.Concept FLOAT_FIELD_MEANING = createConcept("An example Float field", "4276d7a6-2ae7-4ab4-8797-cffad22bf140");
-        EntityProxy.Concept BOOLEAN_FIELD_MEANING = createConcept("An example Boolean field", "87fc11f4-401d-47b2-9d64-82826f09524f");
+    private void createPatternOne(Session session) {
+        EntityProxy.Concept EXAMPLE_MEANING = createConcept(session, "A test pattern for primitive data types", "ad6f4fdd-fee8-45db-a207-111dc4c939a9");
+        EntityProxy.Concept STRING_FIELD_MEANING = createConcept(session, "An example String field", "c39286ba-55ed-4009-b7e1-48519fbd0e0a");
+        EntityProxy.Concept INTEGER_FIELD_MEANING = createConcept(session, "An example Integer field", "38bcb9c6-cdce-4b02-a1bd-d976e3065b8a");
+        EntityProxy.Concept FLOAT_FIELD_MEANING = createConcept(session, "An example Float field", "4276d7a6-2ae7-4ab4-8797-cffad22bf140");
+        EntityProxy.Concept BOOLEAN_FIELD_MEANING = createConcept(session, "An example Boolean field", "87fc11f4-401d-47b2-9d64-82826f09524f");
 
         session.compose((PatternAssembler patternAssembler) -> patternAssembler.pattern(EXAMPLE_PATTERN_ONE)
                         .meaning(EXAMPLE_MEANING)
@@ -135,26 +299,27 @@ public class TinkarExampleData {
                         .language(ENGLISH_LANGUAGE)
                         .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE));
 
-        EntityProxy.Concept CONCEPT_FOR_SEMANTIC_1 = createConcept("First Semantic for Sample Pattern 1", "ad7e09a2-a492-4293-a68a-eb3018e5f23b");
+        EntityProxy.Concept CONCEPT_FOR_SEMANTIC_1 = createConcept(session, "First Semantic for Sample Pattern 1", "ad7e09a2-a492-4293-a68a-eb3018e5f23b");
         session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                .semantic(EntityProxy.Semantic.make("First Semantic for Sample Pattern 1", UUID.fromString("b31517eb-2f85-43ba-8061-5e0577d58d17")))
                 .pattern(EXAMPLE_PATTERN_ONE)
                 .reference(CONCEPT_FOR_SEMANTIC_1)
                 .fieldValues(objects -> objects.addAll(Lists.mutable.of("This is a test String", 1, 0.5f, true))));
 
-        EntityProxy.Concept CONCEPT_FOR_SEMANTIC_2 = createConcept("Second Semantic for Sample Pattern 1", "a25ed810-68bf-4c92-b010-a9492106484e");
+        EntityProxy.Concept CONCEPT_FOR_SEMANTIC_2 = createConcept(session, "Second Semantic for Sample Pattern 1", "a25ed810-68bf-4c92-b010-a9492106484e");
         session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                .semantic(EntityProxy.Semantic.make("Second Semantic for Sample Pattern 1", UUID.fromString("6b868de0-eee3-4db0-a9eb-6a2fb6e5f0d4")))
                 .pattern(EXAMPLE_PATTERN_ONE)
                 .reference(CONCEPT_FOR_SEMANTIC_2)
                 .fieldValues(objects -> objects.addAll(Lists.mutable.of("ThIs iS a DiFfeRenT tEsT StRiNg", 10, 7.5f, false))));
 
     }
 
-    private void createPatternTwo() {
-        EntityProxy.Pattern EXAMPLE_PATTERN_TWO = EntityProxy.Pattern.make("Tinkar Semantic Test Pattern 2", UUID.fromString("7222d538-9641-474a-94ce-72c5bf6462b3"));
-        EntityProxy.Concept EXAMPLE_MEANING = createConcept("A test pattern for component data types", "577ca159-5034-4c3b-8817-24a9de0d9b5c");
-        EntityProxy.Concept COMPONENT_FIELD_MEANING = createConcept("An example Component field", "3cd97362-ff6f-4337-b3f9-fb76d2ca4338");
-        EntityProxy.Concept COMPONENT_SET_FIELD_MEANING = createConcept("An example Component Set field", "990e5a92-cdc2-4e23-a68d-1f01345b8759");
-        EntityProxy.Concept COMPONENT_LIST_FIELD_MEANING = createConcept("An example Component List field", "f0847cd3-2034-43f5-b25f-2bd6e923d228");
+    private void createPatternTwo(Session session) {
+        EntityProxy.Concept EXAMPLE_MEANING = createConcept(session, "A test pattern for component data types", "577ca159-5034-4c3b-8817-24a9de0d9b5c");
+        EntityProxy.Concept COMPONENT_FIELD_MEANING = createConcept(session, "An example Component field", "3cd97362-ff6f-4337-b3f9-fb76d2ca4338");
+        EntityProxy.Concept COMPONENT_SET_FIELD_MEANING = createConcept(session, "An example Component Set field", "990e5a92-cdc2-4e23-a68d-1f01345b8759");
+        EntityProxy.Concept COMPONENT_LIST_FIELD_MEANING = createConcept(session, "An example Component List field", "f0847cd3-2034-43f5-b25f-2bd6e923d228");
 
         session.compose((PatternAssembler patternAssembler) -> patternAssembler.pattern(EXAMPLE_PATTERN_TWO)
                         .meaning(EXAMPLE_MEANING)
@@ -184,8 +349,9 @@ public class TinkarExampleData {
                         .language(ENGLISH_LANGUAGE)
                         .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE));
 
-        EntityProxy.Concept CONCEPT_FOR_SEMANTIC_1 = createConcept("First Semantic for Sample Pattern 2", "016de8cc-b93c-4dab-a1d8-a2cc720f9351");
+        EntityProxy.Concept CONCEPT_FOR_SEMANTIC_1 = createConcept(session, "First Semantic for Sample Pattern 2", "016de8cc-b93c-4dab-a1d8-a2cc720f9351");
         session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                .semantic(EntityProxy.Semantic.make("First Semantic for Sample Pattern 2", UUID.fromString("1d9be972-4c2c-454e-a99c-5be019551fae")))
                 .pattern(EXAMPLE_PATTERN_TWO)
                 .reference(CONCEPT_FOR_SEMANTIC_1)
                 .fieldValues(objects -> objects.addAll(
@@ -206,8 +372,9 @@ public class TinkarExampleData {
                         )
                 )));
 
-        EntityProxy.Concept CONCEPT_FOR_SEMANTIC_2 = createConcept("Second Semantic for Sample Pattern 2", "dde159ca-415e-4947-9174-cae7e8e7202d");
+        EntityProxy.Concept CONCEPT_FOR_SEMANTIC_2 = createConcept(session, "Second Semantic for Sample Pattern 2", "dde159ca-415e-4947-9174-cae7e8e7202d");
         session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                .semantic(EntityProxy.Semantic.make("Second Semantic for Sample Pattern 2", UUID.fromString("670424e9-86ca-4d2b-935e-eec9f6b16401")))
                 .pattern(EXAMPLE_PATTERN_TWO)
                 .reference(CONCEPT_FOR_SEMANTIC_2)
                 .fieldValues(objects -> objects.addAll(
@@ -229,12 +396,11 @@ public class TinkarExampleData {
                 )));
     }
 
-    private EntityProxy.Concept createConcept(String description, String uuidStr) {
-        return createConcept(description, uuidStr, SAMPLE_TINKAR_DATA);
+    private EntityProxy.Concept createConcept(Session session, String description, String uuidStr) {
+        return createConcept(session, EntityProxy.Concept.make(description, UUID.fromString(uuidStr)), SAMPLE_TINKAR_DATA);
     }
 
-    private EntityProxy.Concept createConcept(String description, String uuidStr, EntityProxy.Concept parent) {
-        EntityProxy.Concept concept = EntityProxy.Concept.make(description, UUID.fromString(uuidStr));
+    private EntityProxy.Concept createConcept(Session session, EntityProxy.Concept concept, EntityProxy.Concept parent) {
         session.compose((ConceptAssembler conceptAssembler) -> conceptAssembler.concept(concept))
                 .attach((FullyQualifiedName fqn) -> fqn
                         .text(concept.description())
@@ -266,22 +432,44 @@ public class TinkarExampleData {
     }
 
     private void exportToProtoBuf() {
-        try {
-            new ExportEntitiesController().export(exportFile).get();
-        } catch (ExecutionException | InterruptedException e) {
-            LOG.error("Error while exporting.", e);
+        if (outputTimestamp != null) {
+            try {
+                ReproducibleExport.export(exportFile, outputTimestamp);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error while exporting.", e);
+            }
+            return;
         }
+        ExportEvent.record(exportFile, () -> {
+            try {
+                new ExportEntitiesController().export(exportFile).get();
+            } catch (ExecutionException | InterruptedException e) {
+                LOG.error("Error while exporting.", e);
+            }
+        });
     }
 
     private void cleanup() {
-        PrimitiveData.stop();
+        StoreLifecycleEvent.record("stop", PrimitiveData::stop);
     }
 
     public void execute() {
-        init();
-        transform();
-        exportToProtoBuf();
-        cleanup();
+        GenerationReport report = new GenerationReport("tinkar-example-data");
+        report.time("init", this::init);
+        report.time("transform", this::transform);
+        report.time("export", this::exportToProtoBuf);
+        long entityCount = GenerationReport.storeEntityCount();
+        report.entities("transform", entityCount);
+        report.entities("export", entityCount);
+        report.bytes("export", exportFile);
+        report.time("cleanup", this::cleanup);
+        report.log();
+        try {
+            report.write(new File(exportFile.getAbsoluteFile().getParentFile(),
+                    exportFile.getName().replace(".zip", "") + "-report.json"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while writing generation report.", e);
+        }
     }
 
     public static void main(String[] args) {
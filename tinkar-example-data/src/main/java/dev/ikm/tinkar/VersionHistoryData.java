@@ -0,0 +1,176 @@
+package dev.ikm.tinkar;
+
+import dev.ikm.tinkar.composer.Session;
+import dev.ikm.tinkar.composer.assembler.ConceptAssembler;
+import dev.ikm.tinkar.composer.assembler.SemanticAssembler;
+import dev.ikm.tinkar.composer.template.FullyQualifiedName;
+import dev.ikm.tinkar.composer.template.StatedAxiom;
+import dev.ikm.tinkar.composer.template.StatedNavigation;
+import dev.ikm.tinkar.composer.template.USDialect;
+import dev.ikm.tinkar.data.compose.ParallelComposition;
+import dev.ikm.tinkar.terms.EntityProxy;
+import dev.ikm.tinkar.terms.State;
+import org.eclipse.collections.api.factory.Lists;
+
+import java.util.UUID;
+
+import static dev.ikm.tinkar.TinkarExampleData.EXAMPLE_PATTERN_ONE;
+import static dev.ikm.tinkar.TinkarExampleData.SAMPLE_TINKAR_DATA;
+import static dev.ikm.tinkar.terms.TinkarTerm.DESCRIPTION_NOT_CASE_SENSITIVE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_MODULE;
+import static dev.ikm.tinkar.terms.TinkarTerm.DEVELOPMENT_PATH;
+import static dev.ikm.tinkar.terms.TinkarTerm.ENGLISH_LANGUAGE;
+import static dev.ikm.tinkar.terms.TinkarTerm.KOMET_USER;
+import static dev.ikm.tinkar.terms.TinkarTerm.PREFERRED;
+import static dev.ikm.tinkar.terms.TinkarTerm.USER;
+
+/**
+ * Concepts and Tinkar Semantic Test Pattern 1 semantics with long version histories, for benchmarking latest version
+ * calculation and STAMP filtering. Every concept and semantic gets a version per step in time, ending at the example
+ * data's STAMP time, written by authors in turn. The second of every three versions is inactive, and the last version
+ * is inactive for a percentage of the components, so that some are retired. Semantic field values change with every
+ * version.
+ */
+public class VersionHistoryData implements ExampleWorkload {
+
+    private static final long CONCEPT_UUID_MSB = 0x5645_5253_494F_4E43L;
+    private static final long SEMANTIC_UUID_MSB = 0x5645_5253_494F_4E53L;
+    private static final long AUTHOR_UUID_MSB = 0x5645_5253_494F_4E41L;
+
+    private final long conceptCount;
+    private final int versions;
+    private int semanticsPerConcept = 1;
+    private int authorCount = 2;
+    private int retiredPercent = 10;
+    private long versionInterval = 86_400_000L;
+
+    /**
+     * @param versions versions of each concept and semantic
+     */
+    public VersionHistoryData(long conceptCount, int versions) {
+        this.conceptCount = conceptCount;
+        this.versions = Math.max(1, versions);
+    }
+
+    /**
+     * Pattern 1 semantics referencing each concept. Defaults to one.
+     */
+    public VersionHistoryData semanticsPerConcept(int semanticsPerConcept) {
+        this.semanticsPerConcept = Math.max(0, semanticsPerConcept);
+        return this;
+    }
+
+    /**
+     * Authors taking turns writing versions: User, KOMET user and then synthetic authors. Defaults to two.
+     */
+    public VersionHistoryData authorCount(int authorCount) {
+        this.authorCount = Math.max(1, authorCount);
+        return this;
+    }
+
+    /**
+     * Percentage of the components whose last version is inactive. Defaults to 10.
+     */
+    public VersionHistoryData retiredPercent(int retiredPercent) {
+        this.retiredPercent = Math.clamp(retiredPercent, 0, 100);
+        return this;
+    }
+
+    /**
+     * Milliseconds between consecutive versions. Defaults to a day.
+     */
+    public VersionHistoryData versionInterval(long versionInterval) {
+        this.versionInterval = versionInterval;
+        return this;
+    }
+
+    public static EntityProxy.Concept concept(long index) {
+        return EntityProxy.Concept.make("Version History Concept " + index, new UUID(CONCEPT_UUID_MSB, index));
+    }
+
+    public static EntityProxy.Semantic semantic(long semanticIndex) {
+        return EntityProxy.Semantic.make("Version History Semantic " + semanticIndex,
+                new UUID(SEMANTIC_UUID_MSB, semanticIndex));
+    }
+
+    @Override
+    public void addTo(ParallelComposition composition, long stampTime) {
+        EntityProxy.Concept[] authors = new EntityProxy.Concept[authorCount];
+        for (int a = 0; a < authorCount; a++) {
+            authors[a] = switch (a) {
+                case 0 -> USER;
+                case 1 -> KOMET_USER;
+                default -> EntityProxy.Concept.make("Version History Author " + a, new UUID(AUTHOR_UUID_MSB, a));
+            };
+        }
+        addSyntheticAuthors(composition, stampTime - (versions - 1) * versionInterval, authors);
+
+        // One session per version and state, so versions are written in time order.
+        for (int v = 0; v < versions; v++) {
+            long time = stampTime - (versions - 1 - v) * versionInterval;
+            EntityProxy.Concept author = authors[v % authors.length];
+            int version = v;
+            for (State state : new State[]{State.ACTIVE, State.INACTIVE}) {
+                composition.addRange(composer -> composer.open(state, time, author, DEVELOPMENT_MODULE, DEVELOPMENT_PATH),
+                        conceptCount, index -> state(index, version) == state
+                                ? session -> composeVersion(session, index, version)
+                                : null);
+            }
+        }
+    }
+
+    private void addSyntheticAuthors(ParallelComposition composition, long stampTime, EntityProxy.Concept[] authors) {
+        if (authors.length <= 2) {
+            return;
+        }
+        composition.add(composer -> composer.open(State.ACTIVE, stampTime, USER, DEVELOPMENT_MODULE, DEVELOPMENT_PATH),
+                session -> {
+                    for (int a = 2; a < authors.length; a++) {
+                        EntityProxy.Concept author = authors[a];
+                        session.compose((ConceptAssembler conceptAssembler) -> conceptAssembler.concept(author))
+                                .attach((FullyQualifiedName fqn) -> fqn
+                                        .text(author.description())
+                                        .language(ENGLISH_LANGUAGE)
+                                        .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                                        .attach(new USDialect().acceptability(PREFERRED)))
+                                .attach(new StatedNavigation()
+                                        .parents(USER))
+                                .attach(new StatedAxiom()
+                                        .isA(USER));
+                    }
+                });
+    }
+
+    private State state(long index, int version) {
+        if (version == versions - 1) {
+            return Math.floorMod(index * 0x9E3779B97F4A7C15L >>> 32, 100) < retiredPercent ? State.INACTIVE : State.ACTIVE;
+        }
+        return version % 3 == 1 ? State.INACTIVE : State.ACTIVE;
+    }
+
+    private void composeVersion(Session session, long index, int version) {
+        EntityProxy.Concept concept = concept(index);
+        var attachable = session.compose((ConceptAssembler conceptAssembler) -> conceptAssembler.concept(concept));
+        if (version == 0) {
+            attachable.attach((FullyQualifiedName fqn) -> fqn
+                    .text(concept.description())
+                    .language(ENGLISH_LANGUAGE)
+                    .caseSignificance(DESCRIPTION_NOT_CASE_SENSITIVE)
+                    .attach(new USDialect().acceptability(PREFERRED)));
+            attachable.attach(new StatedNavigation()
+                    .parents(SAMPLE_TINKAR_DATA));
+            attachable.attach(new StatedAxiom()
+                    .isA(SAMPLE_TINKAR_DATA));
+        }
+        for (int s = 0; s < semanticsPerConcept; s++) {
+            long semanticIndex = index * semanticsPerConcept + s;
+            session.compose((SemanticAssembler semanticAssembler) -> semanticAssembler
+                    .semantic(semantic(semanticIndex))
+                    .pattern(EXAMPLE_PATTERN_ONE)
+                    .reference(concept)
+                    .fieldValues(objects -> objects.addAll(Lists.mutable.of(
+                            "Version " + version + " of Semantic " + semanticIndex, version, semanticIndex / 4f,
+                            version % 2 == 0))));
+        }
+    }
+}
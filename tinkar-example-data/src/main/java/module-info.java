@@ -1,6 +1,7 @@
 open module tinkar.starter.data {
     requires dev.ikm.tinkar.common;
     requires dev.ikm.tinkar.composer;
+    requires dev.ikm.tinkar.data.compose;
     requires dev.ikm.tinkar.entity;
     requires dev.ikm.tinkar.provider.executor;
     requires dev.ikm.tinkar.provider.spinedarray;
@@ -0,0 +1,60 @@
+package dev.ikm.tinkar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Builds the example data with a {@link ScaleOutData} workload twice with the same output timestamp, with or without
+ * parallelism, and compares the SHA-256 of both exports.
+ */
+class ReproducibleExportTest {
+
+    private static final Instant OUTPUT_TIMESTAMP = Instant.parse("2024-01-01T00:00:00Z");
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void exportIsIdenticalAcrossBuilds() throws Exception {
+        File first = build("first", 0);
+        File second = build("second", 0);
+        assertEquals(sha256(first), sha256(second));
+    }
+
+    @Test
+    void exportIsIdenticalForAnyParallelism() throws Exception {
+        File sequential = build("sequential", 0);
+        File parallel = build("parallel", 8);
+        assertEquals(sha256(sequential), sha256(parallel));
+    }
+
+    private File build(String name, int parallelism) {
+        File exportFile = new File(tempDir, name + "-pb.zip");
+        TinkarExampleData exampleData = new TinkarExampleData(new String[]{
+                new File(tempDir, name).getPath(), exportFile.getPath()});
+        exampleData.setOutputTimestamp(OUTPUT_TIMESTAMP);
+        exampleData.setParallelism(parallelism);
+        exampleData.setChunkSize(25);
+        // Both example patterns, several semantics per concept and more than one chunk.
+        exampleData.addWorkload(new ScaleOutData(60)
+                .semanticsPerConcept(3)
+                .patternTwoPercent(50));
+        exampleData.execute();
+        return exportFile;
+    }
+
+    private static String sha256(File file) throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(Files.readAllBytes(file.toPath())));
+    }
+}